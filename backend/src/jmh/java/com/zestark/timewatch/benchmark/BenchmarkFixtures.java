@@ -0,0 +1,81 @@
+package com.zestark.timewatch.benchmark;
+
+import com.zestark.timewatch.domain.model.Task;
+import com.zestark.timewatch.domain.model.TaskSession;
+import com.zestark.timewatch.domain.model.TaskStatus;
+import com.zestark.timewatch.domain.model.User;
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Builds the entities that benchmarks operate on.
+ */
+final class BenchmarkFixtures {
+
+  private BenchmarkFixtures() {
+  }
+
+  /**
+   * Creates a user with a generated ID.
+   *
+   * @return the user
+   */
+  static User createUser() {
+    User user = new User();
+    setId(user, UUID.randomUUID());
+    user.setUsername("benchmark");
+    user.setEmail("benchmark@example.com");
+    return user;
+  }
+
+  /**
+   * Creates tasks with generated IDs owned by a user.
+   *
+   * @param user the owner of the tasks
+   * @param count the number of tasks to create
+   * @return the tasks
+   */
+  static List<Task> createTasks(User user, int count) {
+    List<Task> taskList = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      Task task = new Task(user, "Task " + i, "Description of task " + i);
+      setId(task, UUID.randomUUID());
+      task.setStatus(i % 3 == 0 ? TaskStatus.RUNNING : TaskStatus.PENDING);
+      taskList.add(task);
+    }
+    return taskList;
+  }
+
+  /**
+   * Creates one session per task, every other one already ended.
+   *
+   * @param taskList the tasks to create sessions for
+   * @return the sessions
+   */
+  static List<TaskSession> createSessions(List<Task> taskList) {
+    LocalDateTime startTime = LocalDateTime.now().minusHours(2);
+    List<TaskSession> sessionList = new ArrayList<>(taskList.size());
+    for (int i = 0; i < taskList.size(); i++) {
+      TaskSession session = new TaskSession(taskList.get(i), startTime.plusSeconds(i));
+      setId(session, UUID.randomUUID());
+      if (i % 2 == 0) {
+        session.endSession(startTime.plusMinutes(30 + i));
+      }
+      sessionList.add(session);
+    }
+    return sessionList;
+  }
+
+  private static void setId(Object entity, UUID id) {
+    try {
+      Field idField = entity.getClass().getDeclaredField("id");
+      idField.setAccessible(true);
+      idField.set(entity, id);
+    } catch (ReflectiveOperationException exception) {
+      throw new IllegalStateException("Cannot set ID of " + entity.getClass(), exception);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package com.zestark.timewatch.benchmark;
+
+import com.zestark.timewatch.exception.GlobalExceptionHandler;
+import com.zestark.timewatch.exception.ResourceNotFoundException;
+import com.zestark.timewatch.exception.TaskSessionConflictException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * Benchmarks building error responses in {@link GlobalExceptionHandler}.
+ *
+ * <p>The construct benchmarks include creating the exception, whose stack trace capture is
+ * usually the larger part of the cost; the handle benchmarks reuse one exception.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExceptionHandlerBenchmark {
+
+  private GlobalExceptionHandler exceptionHandler;
+  private UUID taskId;
+  private ResourceNotFoundException notFoundException;
+
+  /**
+   * Creates the handler and a reusable exception.
+   */
+  @Setup
+  public void setUp() {
+    exceptionHandler = new GlobalExceptionHandler();
+    taskId = UUID.randomUUID();
+    notFoundException = new ResourceNotFoundException("Task not found with ID: " + taskId);
+  }
+
+  @Benchmark
+  public ResponseEntity<Map<String, Object>> handleNotFound() {
+    return exceptionHandler.handleResourceNotFoundException(notFoundException);
+  }
+
+  @Benchmark
+  public ResponseEntity<Map<String, Object>> constructAndHandleNotFound() {
+    return exceptionHandler.handleResourceNotFoundException(
+        new ResourceNotFoundException("Task not found with ID: " + taskId));
+  }
+
+  @Benchmark
+  public ResponseEntity<Map<String, Object>> constructAndHandleConflict() {
+    return exceptionHandler.handleTaskSessionConflictException(new TaskSessionConflictException(
+        "Task already has a running session. Task ID: " + taskId));
+  }
+}
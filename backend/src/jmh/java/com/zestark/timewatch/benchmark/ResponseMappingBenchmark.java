@@ -0,0 +1,56 @@
+package com.zestark.timewatch.benchmark;
+
+import com.zestark.timewatch.domain.model.Task;
+import com.zestark.timewatch.domain.model.TaskSession;
+import com.zestark.timewatch.dto.TaskResponse;
+import com.zestark.timewatch.dto.TaskSessionResponse;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks mapping entity lists to response DTOs, as the list endpoints do.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+  @Param({"20", "100"})
+  private int size;
+
+  private List<Task> taskList;
+  private List<TaskSession> sessionList;
+
+  /**
+   * Creates the tasks and sessions to map.
+   */
+  @Setup
+  public void setUp() {
+    taskList = BenchmarkFixtures.createTasks(BenchmarkFixtures.createUser(), size);
+    sessionList = BenchmarkFixtures.createSessions(taskList);
+  }
+
+  @Benchmark
+  public List<TaskResponse> taskResponseFromEntity() {
+    return taskList.stream().map(TaskResponse::fromEntity).toList();
+  }
+
+  @Benchmark
+  public List<TaskSessionResponse> taskSessionResponseFromEntity() {
+    return sessionList.stream().map(TaskSessionResponse::fromEntity).toList();
+  }
+}
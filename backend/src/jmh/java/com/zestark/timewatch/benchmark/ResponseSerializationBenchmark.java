@@ -0,0 +1,66 @@
+package com.zestark.timewatch.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.zestark.timewatch.domain.model.Task;
+import com.zestark.timewatch.dto.TaskResponse;
+import com.zestark.timewatch.dto.TaskSessionResponse;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Benchmarks Jackson serialization of list responses.
+ *
+ * <p>The object mapper is built with the same builder Spring Boot uses, so Java time types
+ * are written as ISO strings as they are over HTTP.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseSerializationBenchmark {
+
+  @Param({"20", "100"})
+  private int size;
+
+  private ObjectWriter objectWriter;
+  private List<TaskResponse> taskResponseList;
+  private List<TaskSessionResponse> sessionResponseList;
+
+  /**
+   * Builds the object writer and the responses to serialize.
+   */
+  @Setup
+  public void setUp() {
+    objectWriter = Jackson2ObjectMapperBuilder.json().build().writer();
+    List<Task> taskList = BenchmarkFixtures.createTasks(BenchmarkFixtures.createUser(), size);
+    taskResponseList = taskList.stream().map(TaskResponse::fromEntity).toList();
+    sessionResponseList = BenchmarkFixtures.createSessions(taskList).stream()
+        .map(TaskSessionResponse::fromEntity)
+        .toList();
+  }
+
+  @Benchmark
+  public byte[] taskResponseList() throws JsonProcessingException {
+    return objectWriter.writeValueAsBytes(taskResponseList);
+  }
+
+  @Benchmark
+  public byte[] taskSessionResponseList() throws JsonProcessingException {
+    return objectWriter.writeValueAsBytes(sessionResponseList);
+  }
+}
@@ -0,0 +1,53 @@
+package com.zestark.timewatch.benchmark;
+
+import com.zestark.timewatch.domain.model.TaskSession;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link TaskSession#getDurationInSeconds()} for ended and running sessions.
+ *
+ * <p>A running session reads the clock on every call, an ended one does not.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaskSessionDurationBenchmark {
+
+  private TaskSession endedSession;
+  private TaskSession runningSession;
+
+  /**
+   * Creates one ended and one running session.
+   */
+  @Setup
+  public void setUp() {
+    LocalDateTime startTime = LocalDateTime.now().minusHours(1);
+    endedSession = BenchmarkFixtures.createSessions(
+        BenchmarkFixtures.createTasks(BenchmarkFixtures.createUser(), 1)).get(0);
+    runningSession = new TaskSession(endedSession.getTask(), startTime);
+  }
+
+  @Benchmark
+  public long endedSession() {
+    return endedSession.getDurationInSeconds();
+  }
+
+  @Benchmark
+  public long runningSession() {
+    return runningSession.getDurationInSeconds();
+  }
+}
@@ -0,0 +1,17 @@
+package com.zestark.timewatch.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling configuration.
+ *
+ * <p>Enables {@code @Scheduled} background jobs such as the daily usage rollup repair.
+ * The scheduler pool is sized by {@code spring.task.scheduling.pool.size}, which is larger
+ * than one so that a long data-retention purge does not delay the frequent jobs, such as
+ * the event stream heartbeats and the runaway-session sweep.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,53 @@
+package com.zestark.timewatch.controller;
+
+import com.zestark.timewatch.domain.model.ReportGranularity;
+import com.zestark.timewatch.domain.model.TaskUsageSummary;
+import com.zestark.timewatch.dto.UsageReportResponse;
+import com.zestark.timewatch.service.ReportService;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for time-usage report endpoints.
+ *
+ * <p>Provides APIs that aggregate a user's recorded time.
+ */
+@RestController
+@RequestMapping("/users/{userId}/reports")
+public class ReportController {
+
+  private final ReportService reportService;
+
+  public ReportController(ReportService reportService) {
+    this.reportService = reportService;
+  }
+
+  /**
+   * Gets the total time a user spent per task and period over a date range.
+   *
+   * @param userId the ID of the user
+   * @param from the first day of the range (inclusive, ISO date)
+   * @param to the last day of the range (inclusive, ISO date)
+   * @param granularity the period length to group by (DAY, WEEK or MONTH)
+   * @return the usage per task and period
+   */
+  @GetMapping("/usage")
+  public ResponseEntity<UsageReportResponse> getUsageReport(
+      @PathVariable UUID userId,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+      @RequestParam(defaultValue = "DAY") ReportGranularity granularity) {
+    List<TaskUsageSummary> usageSummaryList =
+        reportService.getUsageReport(userId, from, to, granularity);
+    return ResponseEntity.ok(
+        UsageReportResponse.fromSummaries(userId, from, to, granularity, usageSummaryList));
+  }
+}
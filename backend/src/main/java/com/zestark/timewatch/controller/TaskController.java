@@ -2,14 +2,19 @@ package com.zestark.timewatch.controller;
 
 import com.zestark.timewatch.domain.model.Task;
 import com.zestark.timewatch.domain.model.TaskStatus;
-import com.zestark.timewatch.domain.model.User;
+import com.zestark.timewatch.domain.model.TaskSummary;
 import com.zestark.timewatch.dto.CreateTaskRequest;
+import com.zestark.timewatch.dto.TaskPageResponse;
 import com.zestark.timewatch.dto.TaskResponse;
 import com.zestark.timewatch.service.TaskService;
-import com.zestark.timewatch.service.UserService;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -31,12 +36,13 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/tasks")
 public class TaskController {
 
+  private static final Set<String> SORTABLE_PROPERTIES =
+      Set.of("updatedAt", "createdAt", "taskName", "status");
+
   private final TaskService taskService;
-  private final UserService userService;
 
-  public TaskController(TaskService taskService, UserService userService) {
+  public TaskController(TaskService taskService) {
     this.taskService = taskService;
-    this.userService = userService;
   }
 
   /**
@@ -50,9 +56,8 @@ public class TaskController {
   public ResponseEntity<TaskResponse> createTask(
       @RequestParam UUID userId,
       @Valid @RequestBody CreateTaskRequest requestDto) {
-    User user = userService.findUserById(userId);
     Task createdTask = taskService.createTask(
-        user,
+        userId,
         requestDto.getTaskName(),
         requestDto.getDescription()
     );
@@ -61,19 +66,26 @@ public class TaskController {
   }
 
   /**
-   * Gets all tasks for a user.
+   * Gets one page of tasks for a user, optionally filtered by status.
+   *
+   * <p>Sorted by updatedAt descending unless a sort parameter is given.
    *
    * @param userId the ID of the user
-   * @return a list of tasks belonging to the user
+   * @param status the statuses to filter by, or null for all statuses
+   * @param pageable the page, size and sort order
+   * @return a page of tasks belonging to the user
    */
   @GetMapping
-  public ResponseEntity<List<TaskResponse>> getTasksByUser(@RequestParam UUID userId) {
-    User user = userService.findUserById(userId);
-    List<Task> taskList = taskService.getTasksByUser(user);
-    List<TaskResponse> responseList = taskList.stream()
-        .map(TaskResponse::fromEntity)
-        .toList();
-    return ResponseEntity.ok(responseList);
+  public ResponseEntity<TaskPageResponse> getTasksByUser(
+      @RequestParam UUID userId,
+      @RequestParam(required = false) List<TaskStatus> status,
+      @PageableDefault(size = 20, sort = "updatedAt", direction = Sort.Direction.DESC)
+      Pageable pageable) {
+    validateSort(pageable.getSort());
+    Page<TaskSummary> taskPage = status == null || status.isEmpty()
+        ? taskService.getTasksByUser(userId, pageable)
+        : taskService.getTasksByUserAndStatus(userId, status, pageable);
+    return ResponseEntity.ok(TaskPageResponse.fromPage(taskPage));
   }
 
   /**
@@ -133,4 +145,12 @@ public class TaskController {
     taskService.deleteTask(taskId);
     return ResponseEntity.noContent().build();
   }
+
+  private void validateSort(Sort sort) {
+    for (Sort.Order order : sort) {
+      if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+        throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+      }
+    }
+  }
 }
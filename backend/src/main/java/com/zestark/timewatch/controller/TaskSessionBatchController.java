@@ -0,0 +1,46 @@
+package com.zestark.timewatch.controller;
+
+import com.zestark.timewatch.domain.model.TaskSessionBatchResult;
+import com.zestark.timewatch.dto.BatchTaskSessionRequest;
+import com.zestark.timewatch.dto.BatchTaskSessionResponse;
+import com.zestark.timewatch.service.TaskSessionService;
+import jakarta.validation.Valid;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for batch TaskSession operations.
+ *
+ * <p>Provides an API to start or stop timers for many tasks in a single request.
+ */
+@RestController
+@RequestMapping("/sessions/batch")
+public class TaskSessionBatchController {
+
+  private final TaskSessionService taskSessionService;
+
+  public TaskSessionBatchController(TaskSessionService taskSessionService) {
+    this.taskSessionService = taskSessionService;
+  }
+
+  /**
+   * Applies a timer operation to many tasks in one transaction.
+   *
+   * @param requestDto the batch request
+   * @return the outcome for every requested task
+   */
+  @PostMapping
+  public ResponseEntity<BatchTaskSessionResponse> applyBatch(
+      @Valid @RequestBody BatchTaskSessionRequest requestDto) {
+    List<TaskSessionBatchResult> batchResultList = switch (requestDto.getOperation()) {
+      case START -> taskSessionService.startTaskSessions(requestDto.getTaskIds());
+      case STOP -> taskSessionService.stopTaskSessions(requestDto.getTaskIds());
+    };
+    return ResponseEntity.ok(
+        BatchTaskSessionResponse.fromResults(requestDto.getOperation(), batchResultList));
+  }
+}
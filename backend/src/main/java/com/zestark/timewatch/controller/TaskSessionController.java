@@ -1,6 +1,11 @@
 package com.zestark.timewatch.controller;
 
+import com.zestark.timewatch.domain.model.SessionCursor;
 import com.zestark.timewatch.domain.model.TaskSession;
+import com.zestark.timewatch.domain.model.TaskSessionSummary;
+import com.zestark.timewatch.domain.model.TaskSessionSwitchResult;
+import com.zestark.timewatch.dto.SwitchTaskSessionResponse;
+import com.zestark.timewatch.dto.TaskSessionPageResponse;
 import com.zestark.timewatch.dto.TaskSessionResponse;
 import com.zestark.timewatch.service.TaskSessionService;
 import java.util.List;
@@ -12,6 +17,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -23,6 +29,9 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/tasks/{taskId}/sessions")
 public class TaskSessionController {
 
+  private static final String DEFAULT_PAGE_SIZE = "50";
+  private static final int MAX_PAGE_SIZE = 200;
+
   private final TaskSessionService taskSessionService;
 
   public TaskSessionController(TaskSessionService taskSessionService) {
@@ -54,6 +63,22 @@ public class TaskSessionController {
     return ResponseEntity.ok(TaskSessionResponse.fromEntity(stoppedSession));
   }
 
+  /**
+   * Switches the task owner's timer to a task.
+   *
+   * <p>Stops whatever other sessions the owner has running and starts this task's session
+   * at the same instant.
+   *
+   * @param taskId the ID of the task to switch to
+   * @return the stopped sessions and the started session
+   */
+  @PostMapping("/switch")
+  public ResponseEntity<SwitchTaskSessionResponse> switchTaskSession(@PathVariable UUID taskId) {
+    TaskSessionSwitchResult switchResult = taskSessionService.switchTaskSession(taskId);
+    return ResponseEntity.status(HttpStatus.CREATED)
+        .body(SwitchTaskSessionResponse.fromResult(switchResult));
+  }
+
   /**
    * Gets the currently running session for a task.
    *
@@ -69,35 +94,42 @@ public class TaskSessionController {
   }
 
   /**
-   * Gets all sessions for a task.
+   * Gets one page of a task's sessions, newest first.
    *
    * @param taskId the ID of the task
-   * @return a list of all sessions for the task
+   * @param cursor the opaque cursor from the previous page, or null for the first page
+   * @param limit the maximum number of sessions per page
+   * @return a page of sessions and the cursor of the next page
    */
   @GetMapping
-  public ResponseEntity<List<TaskSessionResponse>> getAllSessions(@PathVariable UUID taskId) {
-    List<TaskSession> sessionList = taskSessionService.getAllSessionsForTask(taskId);
-    List<TaskSessionResponse> responseList = sessionList.stream()
-        .map(TaskSessionResponse::fromEntity)
-        .toList();
-    return ResponseEntity.ok(responseList);
+  public ResponseEntity<TaskSessionPageResponse> getAllSessions(
+      @PathVariable UUID taskId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+    validatePageSize(limit);
+    List<TaskSessionSummary> sessionList = taskSessionService.getSessionsForTask(
+        taskId, decodeCursor(cursor), limit + 1);
+    return ResponseEntity.ok(TaskSessionPageResponse.fromSummaries(sessionList, limit));
   }
 
   /**
-   * Gets all completed sessions for a task.
+   * Gets one page of a task's completed sessions, newest first.
    *
    * @param taskId the ID of the task
-   * @return a list of completed sessions for the task
+   * @param cursor the opaque cursor from the previous page, or null for the first page
+   * @param limit the maximum number of sessions per page
+   * @return a page of completed sessions and the cursor of the next page
    */
   @GetMapping("/completed")
-  public ResponseEntity<List<TaskSessionResponse>> getCompletedSessions(
-      @PathVariable UUID taskId) {
-    List<TaskSession> completedSessionList =
-        taskSessionService.getCompletedSessionsForTask(taskId);
-    List<TaskSessionResponse> responseList = completedSessionList.stream()
-        .map(TaskSessionResponse::fromEntity)
-        .toList();
-    return ResponseEntity.ok(responseList);
+  public ResponseEntity<TaskSessionPageResponse> getCompletedSessions(
+      @PathVariable UUID taskId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int limit) {
+    validatePageSize(limit);
+    List<TaskSessionSummary> completedSessionList =
+        taskSessionService.getCompletedSessionsForTask(taskId, decodeCursor(cursor), limit + 1);
+    return ResponseEntity.ok(
+        TaskSessionPageResponse.fromSummaries(completedSessionList, limit));
   }
 
   /**
@@ -114,4 +146,15 @@ public class TaskSessionController {
     TaskSession taskSession = taskSessionService.findSessionById(sessionId);
     return ResponseEntity.ok(TaskSessionResponse.fromEntity(taskSession));
   }
+
+  private void validatePageSize(int limit) {
+    if (limit < 1 || limit > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException(
+          "Limit must be between 1 and " + MAX_PAGE_SIZE + ": " + limit);
+    }
+  }
+
+  private SessionCursor decodeCursor(String cursor) {
+    return cursor == null ? null : SessionCursor.decode(cursor);
+  }
 }
@@ -0,0 +1,122 @@
+package com.zestark.timewatch.controller;
+
+import com.zestark.timewatch.domain.model.TaskSessionSummary;
+import com.zestark.timewatch.dto.TaskSessionResponse;
+import com.zestark.timewatch.service.SessionExportService;
+import com.zestark.timewatch.service.TaskEventStreamService;
+import com.zestark.timewatch.service.TaskSessionService;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * REST Controller for user-scoped TaskSession endpoints.
+ *
+ * <p>Provides APIs that query sessions across all tasks of a user.
+ */
+@RestController
+@RequestMapping("/users/{userId}")
+public class UserSessionController {
+
+  private static final MediaType CSV_MEDIA_TYPE =
+      new MediaType("text", "csv", StandardCharsets.UTF_8);
+
+  private final TaskSessionService taskSessionService;
+  private final SessionExportService sessionExportService;
+  private final TaskEventStreamService taskEventStreamService;
+
+  /**
+   * Constructor for UserSessionController.
+   *
+   * @param taskSessionService the task session service
+   * @param sessionExportService the session export service
+   * @param taskEventStreamService the task event stream service
+   */
+  public UserSessionController(
+      TaskSessionService taskSessionService,
+      SessionExportService sessionExportService,
+      TaskEventStreamService taskEventStreamService) {
+    this.taskSessionService = taskSessionService;
+    this.sessionExportService = sessionExportService;
+    this.taskEventStreamService = taskEventStreamService;
+  }
+
+  /**
+   * Gets all currently running sessions of a user.
+   *
+   * @param userId the ID of the user
+   * @return a list of running sessions across all of the user's tasks
+   */
+  @GetMapping("/running-sessions")
+  public ResponseEntity<List<TaskSessionResponse>> getRunningSessions(
+      @PathVariable UUID userId) {
+    List<TaskSessionSummary> runningSessionList =
+        taskSessionService.getRunningSessionsForUser(userId);
+    List<TaskSessionResponse> responseList = runningSessionList.stream()
+        .map(TaskSessionResponse::fromSummary)
+        .toList();
+    return ResponseEntity.ok(responseList);
+  }
+
+  /**
+   * Exports the sessions of a user that started within a date range as CSV.
+   *
+   * <p>The response is streamed while the rows are read, so large exports neither buffer
+   * in memory nor delay the first byte.
+   *
+   * @param userId the ID of the user
+   * @param from the first day of the range (inclusive, ISO date)
+   * @param to the last day of the range (inclusive, ISO date)
+   * @return the CSV file, oldest session first
+   */
+  @GetMapping("/sessions/export.csv")
+  public ResponseEntity<StreamingResponseBody> exportSessions(
+      @PathVariable UUID userId,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+    if (from.isAfter(to)) {
+      throw new IllegalArgumentException(
+          "Export start date must not be after end date: " + from + " > " + to);
+    }
+    StreamingResponseBody responseBody = outputStream ->
+        sessionExportService.exportSessionsAsCsv(userId, from, to, outputStream);
+    String fileName = "sessions_" + from + "_" + to + ".csv";
+    return ResponseEntity.ok()
+        .contentType(CSV_MEDIA_TYPE)
+        .header(HttpHeaders.CONTENT_DISPOSITION,
+            ContentDisposition.attachment().filename(fileName).build().toString())
+        .body(responseBody);
+  }
+
+  /**
+   * Opens a Server-Sent Events stream of the user's task state changes.
+   *
+   * <p>Each event is named after its event type (START, STOP, COMPLETE or CANCEL) and
+   * carries the task ID, the new task status and, for timer events, the session ID.
+   * The stream is closed when the client falls too far behind; clients should reconnect
+   * and reload the current state.
+   *
+   * @param userId the ID of the user
+   * @return the event stream
+   */
+  @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  public ResponseEntity<SseEmitter> streamTaskEvents(@PathVariable UUID userId) {
+    return ResponseEntity.ok()
+        .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+        .header("X-Accel-Buffering", "no")
+        .body(taskEventStreamService.subscribe(userId));
+  }
+}
@@ -0,0 +1,18 @@
+package com.zestark.timewatch.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of one task_events row as it is written to the history archive.
+ */
+public interface ArchivedEventRow {
+
+  UUID getId();
+
+  UUID getTaskId();
+
+  String getEventType();
+
+  LocalDateTime getOccurredAt();
+}
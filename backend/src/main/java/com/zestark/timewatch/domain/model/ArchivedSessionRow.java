@@ -0,0 +1,22 @@
+package com.zestark.timewatch.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of one task_sessions row as it is written to the history archive.
+ */
+public interface ArchivedSessionRow {
+
+  UUID getId();
+
+  UUID getTaskId();
+
+  UUID getUserId();
+
+  LocalDateTime getStartTime();
+
+  LocalDateTime getEndTime();
+
+  LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,23 @@
+package com.zestark.timewatch.domain.model;
+
+import java.util.Locale;
+
+/**
+ * Period length that a usage report groups time by.
+ *
+ * <p>Weeks start on Monday (ISO 8601), as computed by PostgreSQL's date_trunc.
+ */
+public enum ReportGranularity {
+  DAY,
+  WEEK,
+  MONTH;
+
+  /**
+   * Gets the field name that PostgreSQL's date_trunc truncates to for this granularity.
+   *
+   * @return the date_trunc field name
+   */
+  public String toDateTruncField() {
+    return name().toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,86 @@
+package com.zestark.timewatch.domain.model;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in a task's session history.
+ *
+ * <p>Sessions are ordered by (start_time, id) descending. A cursor points at the last
+ * session of a page, and the next page starts right after it. The cursor is exchanged
+ * with clients as an opaque URL-safe token.
+ */
+public final class SessionCursor {
+
+  private static final String SEPARATOR = "|";
+
+  private final LocalDateTime startTime;
+  private final UUID sessionId;
+
+  /**
+   * Constructor for SessionCursor.
+   *
+   * @param startTime the start time of the last session of the page
+   * @param sessionId the ID of the last session of the page
+   */
+  public SessionCursor(LocalDateTime startTime, UUID sessionId) {
+    this.startTime = startTime;
+    this.sessionId = sessionId;
+  }
+
+  /**
+   * Creates a cursor pointing at a session.
+   *
+   * @param sessionSummary the session the next page starts after
+   * @return a cursor for the session
+   */
+  public static SessionCursor of(TaskSessionSummary sessionSummary) {
+    return new SessionCursor(sessionSummary.getStartTime(), sessionSummary.getId());
+  }
+
+  /**
+   * Decodes a cursor token.
+   *
+   * @param token the token returned by {@link #encode()}
+   * @return the decoded cursor
+   * @throws IllegalArgumentException if the token is malformed
+   */
+  public static SessionCursor decode(String token) {
+    try {
+      String decodedToken = new String(Base64.getUrlDecoder().decode(token),
+          StandardCharsets.UTF_8);
+      int separatorIndex = decodedToken.indexOf(SEPARATOR);
+      if (separatorIndex < 0) {
+        throw new IllegalArgumentException("Invalid cursor: " + token);
+      }
+      return new SessionCursor(
+          LocalDateTime.parse(decodedToken.substring(0, separatorIndex)),
+          UUID.fromString(decodedToken.substring(separatorIndex + 1))
+      );
+    } catch (DateTimeParseException exception) {
+      throw new IllegalArgumentException("Invalid cursor: " + token, exception);
+    }
+  }
+
+  /**
+   * Encodes this cursor as an opaque URL-safe token.
+   *
+   * @return the cursor token
+   */
+  public String encode() {
+    String rawToken = startTime + SEPARATOR + sessionId;
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(rawToken.getBytes(StandardCharsets.UTF_8));
+  }
+
+  public LocalDateTime getStartTime() {
+    return startTime;
+  }
+
+  public UUID getSessionId() {
+    return sessionId;
+  }
+}
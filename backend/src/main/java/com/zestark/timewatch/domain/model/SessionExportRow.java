@@ -0,0 +1,27 @@
+package com.zestark.timewatch.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of one row of the session CSV export.
+ */
+public interface SessionExportRow {
+
+  UUID getSessionId();
+
+  UUID getTaskId();
+
+  String getTaskName();
+
+  LocalDateTime getStartTime();
+
+  LocalDateTime getEndTime();
+
+  /**
+   * Gets the duration of the session in whole seconds.
+   *
+   * @return the duration in seconds, or null if the session is still running
+   */
+  Long getDurationSeconds();
+}
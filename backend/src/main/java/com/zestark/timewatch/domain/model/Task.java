@@ -1,5 +1,6 @@
 package com.zestark.timewatch.domain.model;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -13,15 +14,21 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 /**
  * Task entity representing a trackable task in the system.
  *
  * <p>This entity maps to the 'tasks' table in the database.
  * Each task belongs to a user and can have multiple time tracking sessions.
+ * Instances are kept in the second-level cache, so code that changes task rows with
+ * native SQL must evict them through {@code EntityCacheEvictor}.
  */
 @Entity
 @Table(name = "tasks")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tasks")
 public class Task {
 
   @Id
@@ -19,7 +19,11 @@ import java.util.UUID;
  * <p>This entity maps to the 'task_sessions' table in the database.
  * Each session tracks the start and end time of a task execution.
  * A running session has a null end_time, ensuring only one active session per task
- * through database-level exclusion control (UNIQUE INDEX WHERE end_time IS NULL).
+ * through database-level exclusion control (the ux_task_running key of task_running_locks,
+ * which a trigger keeps in step with the running sessions).
+ * The table is partitioned by month on start_time.
+ * The owning user's ID is denormalized from the task so running sessions can be
+ * looked up per user without joining tasks.
  */
 @Entity
 @Table(name = "task_sessions")
@@ -34,6 +38,9 @@ public class TaskSession {
   @JoinColumn(name = "task_id", nullable = false)
   private Task task;
 
+  @Column(name = "user_id", nullable = false, updatable = false)
+  private UUID userId;
+
   @Column(name = "start_time", nullable = false)
   private LocalDateTime startTime;
 
@@ -59,6 +66,7 @@ public class TaskSession {
   public TaskSession(Task task, LocalDateTime startTime) {
     this();
     this.task = task;
+    this.userId = task.getUser().getId();
     this.startTime = startTime;
   }
 
@@ -80,6 +88,18 @@ public class TaskSession {
    * @return the duration of this session in seconds
    */
   public long getDurationInSeconds() {
+    return durationInSeconds(startTime, endTime);
+  }
+
+  /**
+   * Calculates the duration of a session in seconds, measuring a running session up to now.
+   * Shared with the listing projections so every endpoint reports the same duration.
+   *
+   * @param startTime the time when the session started
+   * @param endTime the time when the session ended, or null if it is still running
+   * @return the duration of the session in seconds
+   */
+  public static long durationInSeconds(LocalDateTime startTime, LocalDateTime endTime) {
     LocalDateTime effectiveEndTime = endTime != null ? endTime : LocalDateTime.now();
     return Duration.between(startTime, effectiveEndTime).getSeconds();
   }
@@ -111,6 +131,10 @@ public class TaskSession {
     this.task = task;
   }
 
+  public UUID getUserId() {
+    return userId;
+  }
+
   public LocalDateTime getStartTime() {
     return startTime;
   }
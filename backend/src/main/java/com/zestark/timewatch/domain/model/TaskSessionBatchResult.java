@@ -0,0 +1,100 @@
+package com.zestark.timewatch.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Result of applying a timer operation to one task within a batch.
+ *
+ * <p>Holds the outcome for the task and, on success, the affected session.
+ */
+public class TaskSessionBatchResult {
+
+  /**
+   * Outcome of a batch operation for a single task.
+   */
+  public enum Outcome {
+    /**
+     * The operation was applied.
+     */
+    SUCCESS,
+
+    /**
+     * The operation conflicts with the current session state of the task.
+     */
+    CONFLICT,
+
+    /**
+     * The task does not exist.
+     */
+    NOT_FOUND
+  }
+
+  private final UUID taskId;
+  private final Outcome outcome;
+  private final TaskSession taskSession;
+  private final String message;
+
+  private TaskSessionBatchResult(
+      UUID taskId,
+      Outcome outcome,
+      TaskSession taskSession,
+      String message) {
+    this.taskId = taskId;
+    this.outcome = outcome;
+    this.taskSession = taskSession;
+    this.message = message;
+  }
+
+  /**
+   * Creates a successful result.
+   *
+   * @param taskId the ID of the task
+   * @param taskSession the started or stopped session
+   * @return a SUCCESS result
+   */
+  public static TaskSessionBatchResult success(UUID taskId, TaskSession taskSession) {
+    return new TaskSessionBatchResult(taskId, Outcome.SUCCESS, taskSession, null);
+  }
+
+  /**
+   * Creates a conflict result.
+   *
+   * @param taskId the ID of the task
+   * @param message the reason for the conflict
+   * @return a CONFLICT result
+   */
+  public static TaskSessionBatchResult conflict(UUID taskId, String message) {
+    return new TaskSessionBatchResult(taskId, Outcome.CONFLICT, null, message);
+  }
+
+  /**
+   * Creates a not-found result.
+   *
+   * @param taskId the ID of the task
+   * @return a NOT_FOUND result
+   */
+  public static TaskSessionBatchResult notFound(UUID taskId) {
+    return new TaskSessionBatchResult(
+        taskId,
+        Outcome.NOT_FOUND,
+        null,
+        "Task not found with ID: " + taskId
+    );
+  }
+
+  public UUID getTaskId() {
+    return taskId;
+  }
+
+  public Outcome getOutcome() {
+    return outcome;
+  }
+
+  public TaskSession getTaskSession() {
+    return taskSession;
+  }
+
+  public String getMessage() {
+    return message;
+  }
+}
@@ -0,0 +1,18 @@
+package com.zestark.timewatch.domain.model;
+
+/**
+ * Enum representing a timer operation that can be applied to a task session.
+ *
+ * <p>Used by batch requests that apply the same operation to many tasks at once.
+ */
+public enum TaskSessionOperation {
+  /**
+   * Start a new timer session.
+   */
+  START,
+
+  /**
+   * Stop the currently running timer session.
+   */
+  STOP
+}
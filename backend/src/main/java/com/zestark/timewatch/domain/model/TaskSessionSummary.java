@@ -0,0 +1,23 @@
+package com.zestark.timewatch.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of the task session columns served by listing endpoints.
+ *
+ * <p>Backed by a query result row rather than a managed TaskSession, so reading it never
+ * touches the persistence context or triggers a lazy load.
+ */
+public interface TaskSessionSummary {
+
+  UUID getId();
+
+  UUID getTaskId();
+
+  LocalDateTime getStartTime();
+
+  LocalDateTime getEndTime();
+
+  LocalDateTime getCreatedAt();
+}
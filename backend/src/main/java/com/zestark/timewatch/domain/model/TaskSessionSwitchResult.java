@@ -0,0 +1,34 @@
+package com.zestark.timewatch.domain.model;
+
+import java.util.List;
+
+/**
+ * Result of switching a user's timer to another task.
+ *
+ * <p>Holds the sessions that were stopped and the session that was started.
+ * All stopped sessions end at exactly the start time of the started session.
+ */
+public class TaskSessionSwitchResult {
+
+  private final List<TaskSession> stoppedSessions;
+  private final TaskSession startedSession;
+
+  /**
+   * Constructor for TaskSessionSwitchResult.
+   *
+   * @param stoppedSessions the sessions that were stopped by the switch
+   * @param startedSession the session that was started by the switch
+   */
+  public TaskSessionSwitchResult(List<TaskSession> stoppedSessions, TaskSession startedSession) {
+    this.stoppedSessions = stoppedSessions;
+    this.startedSession = startedSession;
+  }
+
+  public List<TaskSession> getStoppedSessions() {
+    return stoppedSessions;
+  }
+
+  public TaskSession getStartedSession() {
+    return startedSession;
+  }
+}
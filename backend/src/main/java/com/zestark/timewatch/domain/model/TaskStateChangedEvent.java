@@ -0,0 +1,121 @@
+package com.zestark.timewatch.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Application event describing a change of a task's timer or status.
+ *
+ * <p>Published by the services inside their transaction and delivered to listeners after
+ * commit.
+ */
+public final class TaskStateChangedEvent {
+
+  private final UUID userId;
+  private final UUID taskId;
+  private final TaskEventType eventType;
+  private final TaskStatus taskStatus;
+  private final UUID sessionId;
+  private final LocalDateTime occurredAt;
+
+  /**
+   * Constructor for TaskStateChangedEvent.
+   *
+   * @param userId the ID of the task owner
+   * @param taskId the ID of the task
+   * @param eventType the type of the change
+   * @param taskStatus the status of the task after the change
+   * @param sessionId the ID of the started or stopped session, or null
+   * @param occurredAt the time of the change
+   */
+  public TaskStateChangedEvent(
+      UUID userId,
+      UUID taskId,
+      TaskEventType eventType,
+      TaskStatus taskStatus,
+      UUID sessionId,
+      LocalDateTime occurredAt) {
+    this.userId = userId;
+    this.taskId = taskId;
+    this.eventType = eventType;
+    this.taskStatus = taskStatus;
+    this.sessionId = sessionId;
+    this.occurredAt = occurredAt;
+  }
+
+  /**
+   * Creates an event for a started session.
+   *
+   * @param startedSession the session that was started
+   * @return a START event
+   */
+  public static TaskStateChangedEvent sessionStarted(TaskSession startedSession) {
+    return new TaskStateChangedEvent(
+        startedSession.getUserId(),
+        startedSession.getTask().getId(),
+        TaskEventType.START,
+        TaskStatus.RUNNING,
+        startedSession.getId(),
+        startedSession.getStartTime()
+    );
+  }
+
+  /**
+   * Creates an event for a stopped session.
+   *
+   * @param stoppedSession the session that was stopped
+   * @return a STOP event
+   */
+  public static TaskStateChangedEvent sessionStopped(TaskSession stoppedSession) {
+    return new TaskStateChangedEvent(
+        stoppedSession.getUserId(),
+        stoppedSession.getTask().getId(),
+        TaskEventType.STOP,
+        TaskStatus.PENDING,
+        stoppedSession.getId(),
+        stoppedSession.getEndTime()
+    );
+  }
+
+  /**
+   * Creates an event for a recorded status change of a task.
+   *
+   * @param task the task after the change
+   * @param taskEvent the recorded event
+   * @return an event of the recorded type
+   */
+  public static TaskStateChangedEvent statusChanged(Task task, TaskEvent taskEvent) {
+    return new TaskStateChangedEvent(
+        task.getUser().getId(),
+        task.getId(),
+        taskEvent.getEventType(),
+        task.getStatus(),
+        null,
+        taskEvent.getOccurredAt()
+    );
+  }
+
+  public UUID getUserId() {
+    return userId;
+  }
+
+  public UUID getTaskId() {
+    return taskId;
+  }
+
+  public TaskEventType getEventType() {
+    return eventType;
+  }
+
+  public TaskStatus getTaskStatus() {
+    return taskStatus;
+  }
+
+  public UUID getSessionId() {
+    return sessionId;
+  }
+
+  public LocalDateTime getOccurredAt() {
+    return occurredAt;
+  }
+}
@@ -0,0 +1,27 @@
+package com.zestark.timewatch.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only projection of the task columns served by listing endpoints.
+ *
+ * <p>Backed by a query result row rather than a managed Task, so reading it never
+ * touches the persistence context or triggers a lazy load.
+ */
+public interface TaskSummary {
+
+  UUID getId();
+
+  UUID getUserId();
+
+  String getTaskName();
+
+  String getDescription();
+
+  TaskStatus getStatus();
+
+  LocalDateTime getCreatedAt();
+
+  LocalDateTime getUpdatedAt();
+}
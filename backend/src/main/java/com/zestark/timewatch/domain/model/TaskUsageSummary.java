@@ -0,0 +1,23 @@
+package com.zestark.timewatch.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Read-only projection of the time spent on one task within one report period.
+ */
+public interface TaskUsageSummary {
+
+  UUID getTaskId();
+
+  String getTaskName();
+
+  /**
+   * Gets the first day of the report period.
+   *
+   * @return the first day of the period
+   */
+  LocalDate getPeriodStart();
+
+  Long getTotalSeconds();
+}
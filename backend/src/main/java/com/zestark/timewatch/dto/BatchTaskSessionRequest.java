@@ -0,0 +1,50 @@
+package com.zestark.timewatch.dto;
+
+import com.zestark.timewatch.domain.model.TaskSessionOperation;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Request DTO for applying a timer operation to many tasks at once.
+ */
+public class BatchTaskSessionRequest {
+
+  /**
+   * Maximum number of tasks accepted in a single batch request.
+   */
+  public static final int MAX_BATCH_SIZE = 500;
+
+  @NotNull(message = "Operation is required")
+  private TaskSessionOperation operation;
+
+  @NotEmpty(message = "Task IDs are required")
+  @Size(max = MAX_BATCH_SIZE, message = "Too many task IDs in one batch")
+  private List<@NotNull UUID> taskIds;
+
+  public BatchTaskSessionRequest() {
+  }
+
+  public BatchTaskSessionRequest(TaskSessionOperation operation, List<UUID> taskIds) {
+    this.operation = operation;
+    this.taskIds = taskIds;
+  }
+
+  public TaskSessionOperation getOperation() {
+    return operation;
+  }
+
+  public void setOperation(TaskSessionOperation operation) {
+    this.operation = operation;
+  }
+
+  public List<UUID> getTaskIds() {
+    return taskIds;
+  }
+
+  public void setTaskIds(List<UUID> taskIds) {
+    this.taskIds = taskIds;
+  }
+}
@@ -0,0 +1,117 @@
+package com.zestark.timewatch.dto;
+
+import com.zestark.timewatch.domain.model.TaskSessionBatchResult;
+import com.zestark.timewatch.domain.model.TaskSessionOperation;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for a batch timer operation.
+ *
+ * <p>Reports the outcome of the operation for every requested task.
+ */
+public class BatchTaskSessionResponse {
+
+  private TaskSessionOperation operation;
+  private List<Result> results;
+
+  public BatchTaskSessionResponse() {
+  }
+
+  /**
+   * Creates a BatchTaskSessionResponse from batch results.
+   *
+   * @param operation the applied operation
+   * @param batchResultList the per-task results
+   * @return a BatchTaskSessionResponse instance
+   */
+  public static BatchTaskSessionResponse fromResults(
+      TaskSessionOperation operation,
+      List<TaskSessionBatchResult> batchResultList) {
+    BatchTaskSessionResponse responseDto = new BatchTaskSessionResponse();
+    responseDto.operation = operation;
+    responseDto.results = batchResultList.stream()
+        .map(Result::fromBatchResult)
+        .toList();
+    return responseDto;
+  }
+
+  public TaskSessionOperation getOperation() {
+    return operation;
+  }
+
+  public void setOperation(TaskSessionOperation operation) {
+    this.operation = operation;
+  }
+
+  public List<Result> getResults() {
+    return results;
+  }
+
+  public void setResults(List<Result> results) {
+    this.results = results;
+  }
+
+  /**
+   * Outcome of the batch operation for a single task.
+   */
+  public static class Result {
+
+    private UUID taskId;
+    private TaskSessionBatchResult.Outcome outcome;
+    private TaskSessionResponse session;
+    private String message;
+
+    public Result() {
+    }
+
+    /**
+     * Creates a Result from a batch result.
+     *
+     * @param batchResult the batch result to convert
+     * @return a Result instance
+     */
+    public static Result fromBatchResult(TaskSessionBatchResult batchResult) {
+      Result resultDto = new Result();
+      resultDto.taskId = batchResult.getTaskId();
+      resultDto.outcome = batchResult.getOutcome();
+      if (batchResult.getTaskSession() != null) {
+        resultDto.session = TaskSessionResponse.fromEntity(batchResult.getTaskSession());
+      }
+      resultDto.message = batchResult.getMessage();
+      return resultDto;
+    }
+
+    public UUID getTaskId() {
+      return taskId;
+    }
+
+    public void setTaskId(UUID taskId) {
+      this.taskId = taskId;
+    }
+
+    public TaskSessionBatchResult.Outcome getOutcome() {
+      return outcome;
+    }
+
+    public void setOutcome(TaskSessionBatchResult.Outcome outcome) {
+      this.outcome = outcome;
+    }
+
+    public TaskSessionResponse getSession() {
+      return session;
+    }
+
+    public void setSession(TaskSessionResponse session) {
+      this.session = session;
+    }
+
+    public String getMessage() {
+      return message;
+    }
+
+    public void setMessage(String message) {
+      this.message = message;
+    }
+  }
+}
@@ -0,0 +1,47 @@
+package com.zestark.timewatch.dto;
+
+import com.zestark.timewatch.domain.model.TaskSessionSwitchResult;
+import java.util.List;
+
+/**
+ * Response DTO for a task switch operation.
+ */
+public class SwitchTaskSessionResponse {
+
+  private List<TaskSessionResponse> stoppedSessions;
+  private TaskSessionResponse startedSession;
+
+  public SwitchTaskSessionResponse() {
+  }
+
+  /**
+   * Creates a SwitchTaskSessionResponse from a switch result.
+   *
+   * @param switchResult the switch result to convert
+   * @return a SwitchTaskSessionResponse instance
+   */
+  public static SwitchTaskSessionResponse fromResult(TaskSessionSwitchResult switchResult) {
+    SwitchTaskSessionResponse responseDto = new SwitchTaskSessionResponse();
+    responseDto.stoppedSessions = switchResult.getStoppedSessions().stream()
+        .map(TaskSessionResponse::fromEntity)
+        .toList();
+    responseDto.startedSession = TaskSessionResponse.fromEntity(switchResult.getStartedSession());
+    return responseDto;
+  }
+
+  public List<TaskSessionResponse> getStoppedSessions() {
+    return stoppedSessions;
+  }
+
+  public void setStoppedSessions(List<TaskSessionResponse> stoppedSessions) {
+    this.stoppedSessions = stoppedSessions;
+  }
+
+  public TaskSessionResponse getStartedSession() {
+    return startedSession;
+  }
+
+  public void setStartedSession(TaskSessionResponse startedSession) {
+    this.startedSession = startedSession;
+  }
+}
@@ -0,0 +1,78 @@
+package com.zestark.timewatch.dto;
+
+import com.zestark.timewatch.domain.model.TaskSummary;
+import java.util.List;
+import org.springframework.data.domain.Page;
+
+/**
+ * Response DTO for one page of a user's tasks.
+ */
+public class TaskPageResponse {
+
+  private List<TaskResponse> items;
+  private int page;
+  private int size;
+  private long totalElements;
+  private int totalPages;
+
+  public TaskPageResponse() {
+  }
+
+  /**
+   * Creates a TaskPageResponse from a page of task summaries.
+   *
+   * @param taskPage the page of task summaries to convert
+   * @return a TaskPageResponse instance
+   */
+  public static TaskPageResponse fromPage(Page<TaskSummary> taskPage) {
+    TaskPageResponse responseDto = new TaskPageResponse();
+    responseDto.items = taskPage.getContent().stream()
+        .map(TaskResponse::fromSummary)
+        .toList();
+    responseDto.page = taskPage.getNumber();
+    responseDto.size = taskPage.getSize();
+    responseDto.totalElements = taskPage.getTotalElements();
+    responseDto.totalPages = taskPage.getTotalPages();
+    return responseDto;
+  }
+
+  public List<TaskResponse> getItems() {
+    return items;
+  }
+
+  public void setItems(List<TaskResponse> items) {
+    this.items = items;
+  }
+
+  public int getPage() {
+    return page;
+  }
+
+  public void setPage(int page) {
+    this.page = page;
+  }
+
+  public int getSize() {
+    return size;
+  }
+
+  public void setSize(int size) {
+    this.size = size;
+  }
+
+  public long getTotalElements() {
+    return totalElements;
+  }
+
+  public void setTotalElements(long totalElements) {
+    this.totalElements = totalElements;
+  }
+
+  public int getTotalPages() {
+    return totalPages;
+  }
+
+  public void setTotalPages(int totalPages) {
+    this.totalPages = totalPages;
+  }
+}
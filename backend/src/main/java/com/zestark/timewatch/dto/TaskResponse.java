@@ -2,6 +2,7 @@ package com.zestark.timewatch.dto;
 
 import com.zestark.timewatch.domain.model.Task;
 import com.zestark.timewatch.domain.model.TaskStatus;
+import com.zestark.timewatch.domain.model.TaskSummary;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -39,6 +40,24 @@ public class TaskResponse {
     return responseDto;
   }
 
+  /**
+   * Creates a TaskResponse from a TaskSummary projection.
+   *
+   * @param taskSummary the task summary to convert
+   * @return a TaskResponse instance
+   */
+  public static TaskResponse fromSummary(TaskSummary taskSummary) {
+    TaskResponse responseDto = new TaskResponse();
+    responseDto.id = taskSummary.getId();
+    responseDto.userId = taskSummary.getUserId();
+    responseDto.taskName = taskSummary.getTaskName();
+    responseDto.description = taskSummary.getDescription();
+    responseDto.status = taskSummary.getStatus();
+    responseDto.createdAt = taskSummary.getCreatedAt();
+    responseDto.updatedAt = taskSummary.getUpdatedAt();
+    return responseDto;
+  }
+
   public UUID getId() {
     return id;
   }
@@ -0,0 +1,63 @@
+package com.zestark.timewatch.dto;
+
+import com.zestark.timewatch.domain.model.SessionCursor;
+import com.zestark.timewatch.domain.model.TaskSessionSummary;
+import java.util.List;
+
+/**
+ * Response DTO for one page of a task's session history.
+ *
+ * <p>{@code nextCursor} is an opaque token for the following page, or null on the last page.
+ */
+public class TaskSessionPageResponse {
+
+  private List<TaskSessionResponse> items;
+  private String nextCursor;
+
+  public TaskSessionPageResponse() {
+  }
+
+  /**
+   * Creates a TaskSessionPageResponse from session summaries fetched with one extra row.
+   *
+   * <p>The caller fetches {@code limit + 1} sessions. If the extra session is present,
+   * there is a next page, and its cursor points at the last session that is returned.
+   *
+   * @param fetchedSessionList the session summaries fetched, at most limit + 1
+   * @param limit the page size
+   * @return a TaskSessionPageResponse instance
+   */
+  public static TaskSessionPageResponse fromSummaries(
+      List<TaskSessionSummary> fetchedSessionList,
+      int limit) {
+    boolean hasNextPage = fetchedSessionList.size() > limit;
+    List<TaskSessionSummary> pageSessionList = hasNextPage
+        ? fetchedSessionList.subList(0, limit)
+        : fetchedSessionList;
+
+    TaskSessionPageResponse responseDto = new TaskSessionPageResponse();
+    responseDto.items = pageSessionList.stream()
+        .map(TaskSessionResponse::fromSummary)
+        .toList();
+    if (hasNextPage) {
+      responseDto.nextCursor = SessionCursor.of(pageSessionList.get(limit - 1)).encode();
+    }
+    return responseDto;
+  }
+
+  public List<TaskSessionResponse> getItems() {
+    return items;
+  }
+
+  public void setItems(List<TaskSessionResponse> items) {
+    this.items = items;
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  public void setNextCursor(String nextCursor) {
+    this.nextCursor = nextCursor;
+  }
+}
@@ -1,6 +1,7 @@
 package com.zestark.timewatch.dto;
 
 import com.zestark.timewatch.domain.model.TaskSession;
+import com.zestark.timewatch.domain.model.TaskSessionSummary;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -38,6 +39,27 @@ public class TaskSessionResponse {
     return responseDto;
   }
 
+  /**
+   * Creates a TaskSessionResponse from a TaskSessionSummary projection.
+   *
+   * <p>The duration of a running session is measured up to now, as for the entity.
+   *
+   * @param sessionSummary the task session summary to convert
+   * @return a TaskSessionResponse instance
+   */
+  public static TaskSessionResponse fromSummary(TaskSessionSummary sessionSummary) {
+    TaskSessionResponse responseDto = new TaskSessionResponse();
+    responseDto.id = sessionSummary.getId();
+    responseDto.taskId = sessionSummary.getTaskId();
+    responseDto.startTime = sessionSummary.getStartTime();
+    responseDto.endTime = sessionSummary.getEndTime();
+    responseDto.durationInSeconds = TaskSession.durationInSeconds(
+        sessionSummary.getStartTime(), sessionSummary.getEndTime());
+    responseDto.isRunning = sessionSummary.getEndTime() == null;
+    responseDto.createdAt = sessionSummary.getCreatedAt();
+    return responseDto;
+  }
+
   public UUID getId() {
     return id;
   }
@@ -0,0 +1,78 @@
+package com.zestark.timewatch.dto;
+
+import com.zestark.timewatch.domain.model.TaskEventType;
+import com.zestark.timewatch.domain.model.TaskStateChangedEvent;
+import com.zestark.timewatch.domain.model.TaskStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Response DTO for a task state change pushed over the event stream.
+ */
+public class TaskStateEventResponse {
+
+  private UUID taskId;
+  private TaskEventType eventType;
+  private TaskStatus taskStatus;
+  private UUID sessionId;
+  private LocalDateTime occurredAt;
+
+  public TaskStateEventResponse() {
+  }
+
+  /**
+   * Creates a TaskStateEventResponse from a TaskStateChangedEvent.
+   *
+   * @param stateChangedEvent the event to convert
+   * @return a TaskStateEventResponse instance
+   */
+  public static TaskStateEventResponse fromEvent(TaskStateChangedEvent stateChangedEvent) {
+    TaskStateEventResponse responseDto = new TaskStateEventResponse();
+    responseDto.taskId = stateChangedEvent.getTaskId();
+    responseDto.eventType = stateChangedEvent.getEventType();
+    responseDto.taskStatus = stateChangedEvent.getTaskStatus();
+    responseDto.sessionId = stateChangedEvent.getSessionId();
+    responseDto.occurredAt = stateChangedEvent.getOccurredAt();
+    return responseDto;
+  }
+
+  public UUID getTaskId() {
+    return taskId;
+  }
+
+  public void setTaskId(UUID taskId) {
+    this.taskId = taskId;
+  }
+
+  public TaskEventType getEventType() {
+    return eventType;
+  }
+
+  public void setEventType(TaskEventType eventType) {
+    this.eventType = eventType;
+  }
+
+  public TaskStatus getTaskStatus() {
+    return taskStatus;
+  }
+
+  public void setTaskStatus(TaskStatus taskStatus) {
+    this.taskStatus = taskStatus;
+  }
+
+  public UUID getSessionId() {
+    return sessionId;
+  }
+
+  public void setSessionId(UUID sessionId) {
+    this.sessionId = sessionId;
+  }
+
+  public LocalDateTime getOccurredAt() {
+    return occurredAt;
+  }
+
+  public void setOccurredAt(LocalDateTime occurredAt) {
+    this.occurredAt = occurredAt;
+  }
+}
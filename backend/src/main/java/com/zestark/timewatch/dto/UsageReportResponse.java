@@ -0,0 +1,150 @@
+package com.zestark.timewatch.dto;
+
+import com.zestark.timewatch.domain.model.ReportGranularity;
+import com.zestark.timewatch.domain.model.TaskUsageSummary;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Response DTO for a user's time-usage report.
+ */
+public class UsageReportResponse {
+
+  private UUID userId;
+  private LocalDate from;
+  private LocalDate to;
+  private ReportGranularity granularity;
+  private List<Entry> entries;
+
+  public UsageReportResponse() {
+  }
+
+  /**
+   * Creates a UsageReportResponse from usage summaries.
+   *
+   * @param userId the ID of the user
+   * @param from the first day of the range
+   * @param to the last day of the range
+   * @param granularity the period length the usage is grouped by
+   * @param usageSummaryList the usage per task and period
+   * @return a UsageReportResponse instance
+   */
+  public static UsageReportResponse fromSummaries(
+      UUID userId,
+      LocalDate from,
+      LocalDate to,
+      ReportGranularity granularity,
+      List<TaskUsageSummary> usageSummaryList) {
+    UsageReportResponse responseDto = new UsageReportResponse();
+    responseDto.userId = userId;
+    responseDto.from = from;
+    responseDto.to = to;
+    responseDto.granularity = granularity;
+    responseDto.entries = usageSummaryList.stream()
+        .map(Entry::fromSummary)
+        .toList();
+    return responseDto;
+  }
+
+  public UUID getUserId() {
+    return userId;
+  }
+
+  public void setUserId(UUID userId) {
+    this.userId = userId;
+  }
+
+  public LocalDate getFrom() {
+    return from;
+  }
+
+  public void setFrom(LocalDate from) {
+    this.from = from;
+  }
+
+  public LocalDate getTo() {
+    return to;
+  }
+
+  public void setTo(LocalDate to) {
+    this.to = to;
+  }
+
+  public ReportGranularity getGranularity() {
+    return granularity;
+  }
+
+  public void setGranularity(ReportGranularity granularity) {
+    this.granularity = granularity;
+  }
+
+  public List<Entry> getEntries() {
+    return entries;
+  }
+
+  public void setEntries(List<Entry> entries) {
+    this.entries = entries;
+  }
+
+  /**
+   * Time spent on a single task within a single period.
+   */
+  public static class Entry {
+
+    private UUID taskId;
+    private String taskName;
+    private LocalDate periodStart;
+    private long totalSeconds;
+
+    public Entry() {
+    }
+
+    /**
+     * Creates an Entry from a usage summary.
+     *
+     * @param usageSummary the usage summary to convert
+     * @return an Entry instance
+     */
+    public static Entry fromSummary(TaskUsageSummary usageSummary) {
+      Entry entry = new Entry();
+      entry.taskId = usageSummary.getTaskId();
+      entry.taskName = usageSummary.getTaskName();
+      entry.periodStart = usageSummary.getPeriodStart();
+      entry.totalSeconds = usageSummary.getTotalSeconds();
+      return entry;
+    }
+
+    public UUID getTaskId() {
+      return taskId;
+    }
+
+    public void setTaskId(UUID taskId) {
+      this.taskId = taskId;
+    }
+
+    public String getTaskName() {
+      return taskName;
+    }
+
+    public void setTaskName(String taskName) {
+      this.taskName = taskName;
+    }
+
+    public LocalDate getPeriodStart() {
+      return periodStart;
+    }
+
+    public void setPeriodStart(LocalDate periodStart) {
+      this.periodStart = periodStart;
+    }
+
+    public long getTotalSeconds() {
+      return totalSeconds;
+    }
+
+    public void setTotalSeconds(long totalSeconds) {
+      this.totalSeconds = totalSeconds;
+    }
+  }
+}
@@ -1,14 +1,18 @@
 package com.zestark.timewatch.exception;
 
+import java.sql.SQLException;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 /**
  * Global exception handler for all REST controllers.
@@ -18,6 +22,8 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+  private static final String FOREIGN_KEY_VIOLATION_SQL_STATE = "23503";
+
   /**
    * Handles ResourceNotFoundException.
    *
@@ -66,6 +72,33 @@ public class GlobalExceptionHandler {
     );
   }
 
+  /**
+   * Handles DataIntegrityViolationException.
+   *
+   * <p>Writes that attach an owner by reference rely on the foreign key constraint to
+   * reject unknown owners, so a foreign key violation is reported as 404 Not Found.
+   * Other integrity violations are reported as 409 Conflict.
+   *
+   * @param exception the exception
+   * @return 404 Not Found or 409 Conflict response with error details
+   */
+  @ExceptionHandler(DataIntegrityViolationException.class)
+  public ResponseEntity<Map<String, Object>> handleDataIntegrityViolationException(
+      DataIntegrityViolationException exception) {
+    if (isForeignKeyViolation(exception)) {
+      return buildErrorResponse(
+          HttpStatus.NOT_FOUND,
+          "Referenced resource not found",
+          "Resource not found"
+      );
+    }
+    return buildErrorResponse(
+        HttpStatus.CONFLICT,
+        "The request conflicts with existing data",
+        "Data integrity violation"
+    );
+  }
+
   /**
    * Handles validation errors (JSR-303 Bean Validation).
    *
@@ -105,6 +138,25 @@ public class GlobalExceptionHandler {
     );
   }
 
+  /**
+   * Handles request parameters that are missing or cannot be converted to their type.
+   *
+   * @param exception the exception
+   * @return 400 Bad Request response with error details
+   */
+  @ExceptionHandler({
+      MissingServletRequestParameterException.class,
+      MethodArgumentTypeMismatchException.class
+  })
+  public ResponseEntity<Map<String, Object>> handleInvalidRequestParameterException(
+      Exception exception) {
+    return buildErrorResponse(
+        HttpStatus.BAD_REQUEST,
+        exception.getMessage(),
+        "Invalid request parameter"
+    );
+  }
+
   /**
    * Handles all other exceptions.
    *
@@ -120,6 +172,11 @@ public class GlobalExceptionHandler {
     );
   }
 
+  private boolean isForeignKeyViolation(DataIntegrityViolationException exception) {
+    return exception.getMostSpecificCause() instanceof SQLException sqlException
+        && FOREIGN_KEY_VIOLATION_SQL_STATE.equals(sqlException.getSQLState());
+  }
+
   private ResponseEntity<Map<String, Object>> buildErrorResponse(
       HttpStatus status,
       String message,
@@ -0,0 +1,95 @@
+package com.zestark.timewatch.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+
+/**
+ * Micrometer meters for the progress of the data-retention purge.
+ *
+ * <p>Records the following meters:
+ * <ul>
+ *   <li>{@code timewatch.retention.deleted.rows}: rows deleted in batches, tagged with
+ *       the table</li>
+ *   <li>{@code timewatch.retention.dropped.partitions}: expired monthly partitions dropped
+ *       as a whole, tagged with the table</li>
+ *   <li>{@code timewatch.retention.runs}: purge runs, tagged with their outcome</li>
+ *   <li>{@code timewatch.retention.last.completed}: the epoch second at which the last run
+ *       purged everything older than the retention window, 0 until then</li>
+ * </ul>
+ * A purge that stays incomplete shows up as the last-completed gauge falling behind.
+ */
+@Component
+public class DataRetentionMetrics {
+
+  public static final String TASK_SESSIONS = "task_sessions";
+  public static final String TASK_EVENTS = "task_events";
+
+  public static final String COMPLETED = "completed";
+  public static final String TIME_LIMIT_REACHED = "time_limit_reached";
+  public static final String LOCK_TIMEOUT = "lock_timeout";
+  public static final String ARCHIVE_FAILED = "archive_failed";
+
+  private final MeterRegistry meterRegistry;
+  private final AtomicLong lastCompletedEpochSecond = new AtomicLong();
+
+  /**
+   * Constructor for DataRetentionMetrics.
+   *
+   * @param meterRegistry the registry to record meters in
+   */
+  public DataRetentionMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+    Gauge.builder("timewatch.retention.last.completed", lastCompletedEpochSecond, AtomicLong::get)
+        .description("Epoch second of the last data-retention run that purged all expired rows")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Counts rows deleted by one batch.
+   *
+   * @param table the table, one of the table constants of this class
+   * @param rowCount the number of rows deleted
+   */
+  public void recordDeletedRows(String table, int rowCount) {
+    Counter.builder("timewatch.retention.deleted.rows")
+        .description("Expired rows deleted by the data-retention purge")
+        .tag("table", table)
+        .register(meterRegistry)
+        .increment(rowCount);
+  }
+
+  /**
+   * Counts a dropped partition.
+   *
+   * @param table the parent table, one of the table constants of this class
+   */
+  public void recordDroppedPartition(String table) {
+    Counter.builder("timewatch.retention.dropped.partitions")
+        .description("Expired monthly partitions dropped by the data-retention purge")
+        .tag("table", table)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  /**
+   * Counts a finished purge run. A completed run also updates the last-completed gauge.
+   *
+   * @param outcome the outcome, one of the outcome constants of this class
+   * @param finishedAt the time the run finished
+   */
+  public void recordRun(String outcome, Instant finishedAt) {
+    Counter.builder("timewatch.retention.runs")
+        .description("Data-retention purge runs")
+        .tag("outcome", outcome)
+        .register(meterRegistry)
+        .increment();
+    if (COMPLETED.equals(outcome)) {
+      lastCompletedEpochSecond.set(finishedAt.getEpochSecond());
+    }
+  }
+}
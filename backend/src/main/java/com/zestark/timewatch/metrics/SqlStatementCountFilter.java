@@ -0,0 +1,63 @@
+package com.zestark.timewatch.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records the number of SQL statements each request issued.
+ *
+ * <p>The count is recorded in the {@code timewatch.http.sql.statements} distribution summary,
+ * tagged with the HTTP method and the matched URI pattern like {@code http.server.requests}.
+ * Statements issued on other threads, such as while a streaming response is written, are
+ * not attributed to the request.
+ */
+@Component
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+  private static final String UNKNOWN_URI = "UNKNOWN";
+
+  private final SqlStatementCounter statementCounter;
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Constructor for SqlStatementCountFilter.
+   *
+   * @param statementCounter the statement counter
+   * @param meterRegistry the registry to record counts in
+   */
+  public SqlStatementCountFilter(
+      SqlStatementCounter statementCounter,
+      MeterRegistry meterRegistry) {
+    this.statementCounter = statementCounter;
+    this.meterRegistry = meterRegistry;
+  }
+
+  @Override
+  protected void doFilterInternal(
+      HttpServletRequest request,
+      HttpServletResponse response,
+      FilterChain filterChain) throws ServletException, IOException {
+    statementCounter.begin();
+    try {
+      filterChain.doFilter(request, response);
+    } finally {
+      int statementCount = statementCounter.end();
+      Object uriPattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      DistributionSummary.builder("timewatch.http.sql.statements")
+          .description("SQL statements issued per HTTP request")
+          .baseUnit("statements")
+          .tag("method", request.getMethod())
+          .tag("uri", uriPattern == null ? UNKNOWN_URI : uriPattern.toString())
+          .register(meterRegistry)
+          .record(statementCount);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.zestark.timewatch.metrics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the number of SQL statements a request issued as a response header.
+ *
+ * <p>The header is written just before the response body, after the handler has finished
+ * its database work. It is meant for development and is off unless
+ * {@code timewatch.metrics.sql-statement-header} is set.
+ */
+@ControllerAdvice
+public class SqlStatementCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+  public static final String HEADER_NAME = "X-SQL-Statement-Count";
+
+  private final SqlStatementCounter statementCounter;
+  private final boolean headerEnabled;
+
+  /**
+   * Constructor for SqlStatementCountHeaderAdvice.
+   *
+   * @param statementCounter the statement counter
+   * @param headerEnabled whether to add the header
+   */
+  public SqlStatementCountHeaderAdvice(
+      SqlStatementCounter statementCounter,
+      @Value("${timewatch.metrics.sql-statement-header:false}") boolean headerEnabled) {
+    this.statementCounter = statementCounter;
+    this.headerEnabled = headerEnabled;
+  }
+
+  @Override
+  public boolean supports(
+      MethodParameter returnType,
+      Class<? extends HttpMessageConverter<?>> converterType) {
+    return headerEnabled;
+  }
+
+  @Override
+  public Object beforeBodyWrite(
+      Object body,
+      MethodParameter returnType,
+      MediaType selectedContentType,
+      Class<? extends HttpMessageConverter<?>> selectedConverterType,
+      ServerHttpRequest request,
+      ServerHttpResponse response) {
+    response.getHeaders().set(HEADER_NAME, String.valueOf(statementCounter.current()));
+    return body;
+  }
+}
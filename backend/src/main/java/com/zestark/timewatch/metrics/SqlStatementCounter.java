@@ -0,0 +1,63 @@
+package com.zestark.timewatch.metrics;
+
+import java.util.Map;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread.
+ *
+ * <p>Registers itself as the Hibernate {@link StatementInspector}, so JPQL, criteria,
+ * native queries and flushed entity changes are all counted. A JDBC batch counts once,
+ * as one prepared statement. Counting happens only between {@link #begin()} and
+ * {@link #end()}, which {@link SqlStatementCountFilter} calls around every request.
+ */
+@Component
+public class SqlStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+  private final ThreadLocal<int[]> statementCount = new ThreadLocal<>();
+
+  @Override
+  public void customize(Map<String, Object> hibernateProperties) {
+    hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+  }
+
+  @Override
+  public String inspect(String sql) {
+    int[] count = statementCount.get();
+    if (count != null) {
+      count[0]++;
+    }
+    return sql;
+  }
+
+  /**
+   * Starts counting on the current thread from zero.
+   */
+  public void begin() {
+    statementCount.set(new int[1]);
+  }
+
+  /**
+   * Gets the number of statements counted so far on the current thread.
+   *
+   * @return the number of statements, 0 if counting has not begun
+   */
+  public int current() {
+    int[] count = statementCount.get();
+    return count == null ? 0 : count[0];
+  }
+
+  /**
+   * Stops counting on the current thread.
+   *
+   * @return the number of statements counted since {@link #begin()}
+   */
+  public int end() {
+    int count = current();
+    statementCount.remove();
+    return count;
+  }
+}
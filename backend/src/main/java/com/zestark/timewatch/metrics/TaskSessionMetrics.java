@@ -0,0 +1,111 @@
+package com.zestark.timewatch.metrics;
+
+import com.zestark.timewatch.repository.TaskSessionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Micrometer meters for timer session contention and running sessions.
+ *
+ * <p>Records two counters, both tagged with the session operation:
+ * <ul>
+ *   <li>{@code timewatch.session.conflicts}: every start or stop that was rejected with
+ *       409 Conflict, including the per-task CONFLICT results of batch operations</li>
+ *   <li>{@code timewatch.session.constraint.races}: batch starts whose prior read found
+ *       their tasks idle but whose writes then violated the one running session constraint,
+ *       because a concurrent request started one of the tasks in between</li>
+ * </ul>
+ * Single starts and switches rely on the constraint alone, without a prior read, so a
+ * violation there is an ordinary conflict and is not counted as a race.
+ * The {@code timewatch.session.auto.stopped} counter records sessions stopped because they
+ * ran longer than the maximum session duration.
+ * The {@code timewatch.sessions.running} gauge reports the number of running sessions
+ * across all users. It is refreshed on a fixed delay instead of on every scrape, so
+ * scrapes never wait for the database.
+ */
+@Component
+public class TaskSessionMetrics {
+
+  public static final String START = "start";
+  public static final String STOP = "stop";
+  public static final String SWITCH = "switch";
+  public static final String BATCH_START = "batch_start";
+  public static final String BATCH_STOP = "batch_stop";
+
+  private static final String CONFLICTS_METER_NAME = "timewatch.session.conflicts";
+  private static final String CONSTRAINT_RACES_METER_NAME = "timewatch.session.constraint.races";
+
+  private final MeterRegistry meterRegistry;
+  private final TaskSessionRepository taskSessionRepository;
+  private final AtomicLong runningSessionCount = new AtomicLong();
+
+  /**
+   * Constructor for TaskSessionMetrics.
+   *
+   * @param meterRegistry the registry to record meters in
+   * @param taskSessionRepository the task session repository
+   */
+  public TaskSessionMetrics(
+      MeterRegistry meterRegistry,
+      TaskSessionRepository taskSessionRepository) {
+    this.meterRegistry = meterRegistry;
+    this.taskSessionRepository = taskSessionRepository;
+    Gauge.builder("timewatch.sessions.running", runningSessionCount, AtomicLong::get)
+        .description("Number of timer sessions currently running")
+        .register(meterRegistry);
+  }
+
+  /**
+   * Counts a start or stop rejected because of the task's session state.
+   *
+   * @param operation the session operation, one of the constants of this class
+   */
+  public void recordConflict(String operation) {
+    Counter.builder(CONFLICTS_METER_NAME)
+        .description("Timer operations rejected with 409 Conflict")
+        .tag("operation", operation)
+        .register(meterRegistry)
+        .increment();
+  }
+
+  /**
+   * Counts a conflict that a prior read did not see and that was raised by a database
+   * constraint violation. The conflict is also counted by {@link #recordConflict(String)}.
+   *
+   * @param operation the session operation, one of the constants of this class
+   */
+  public void recordConstraintRace(String operation) {
+    Counter.builder(CONSTRAINT_RACES_METER_NAME)
+        .description("Timer operations that lost a race on a database constraint")
+        .tag("operation", operation)
+        .register(meterRegistry)
+        .increment();
+    recordConflict(operation);
+  }
+
+  /**
+   * Counts sessions stopped because they ran longer than the maximum session duration.
+   *
+   * @param sessionCount the number of stopped sessions
+   */
+  public void recordAutoStops(int sessionCount) {
+    Counter.builder("timewatch.session.auto.stopped")
+        .description("Timer sessions stopped for exceeding the maximum session duration")
+        .register(meterRegistry)
+        .increment(sessionCount);
+  }
+
+  /**
+   * Refreshes the running sessions gauge.
+   */
+  @Scheduled(
+      fixedDelayString = "${timewatch.metrics.running-sessions-refresh-ms:30000}",
+      initialDelay = 0)
+  public void refreshRunningSessionCount() {
+    runningSessionCount.set(taskSessionRepository.countRunningSessions());
+  }
+}
@@ -1,12 +1,18 @@
 package com.zestark.timewatch.repository;
 
+import com.zestark.timewatch.domain.model.ArchivedEventRow;
 import com.zestark.timewatch.domain.model.Task;
 import com.zestark.timewatch.domain.model.TaskEvent;
 import com.zestark.timewatch.domain.model.TaskEventType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -35,4 +41,53 @@ public interface TaskEventRepository extends JpaRepository<TaskEvent, UUID> {
    * @return a list of events of the specified type for the task
    */
   List<TaskEvent> findByTaskAndEventType(Task task, TaskEventType eventType);
+
+  /**
+   * Detaches and drops the oldest monthly partition of task_events that ends before the
+   * cutoff.
+   *
+   * <p>Detaching takes an ACCESS EXCLUSIVE lock on task_events, so the call fails instead
+   * of queueing the event writes behind it once the lock timeout is exceeded.
+   *
+   * @param cutoff the retention cutoff
+   * @param lockTimeoutMillis the lock timeout in milliseconds
+   * @return the name of the dropped partition, or null if no partition has expired
+   */
+  @Query(value = "SELECT drop_expired_partition("
+      + "'task_events', :cutoff, NULL, :lockTimeoutMillis)", nativeQuery = true)
+  String dropExpiredPartition(
+      @Param("cutoff") LocalDateTime cutoff,
+      @Param("lockTimeoutMillis") String lockTimeoutMillis);
+
+  /**
+   * Deletes a batch of events that occurred before the cutoff.
+   *
+   * @param cutoff the retention cutoff
+   * @param batchSize the maximum number of events to delete
+   * @return the number of events deleted
+   */
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_events"))
+  @Query(value = "DELETE FROM task_events WHERE (id, occurred_at) IN ("
+      + "  SELECT id, occurred_at FROM task_events WHERE occurred_at < :cutoff LIMIT :batchSize"
+      + ")", nativeQuery = true)
+  int deleteEventsBefore(
+      @Param("cutoff") LocalDateTime cutoff,
+      @Param("batchSize") int batchSize);
+
+  /**
+   * Deletes a batch of events that occurred before the cutoff and returns them, so they
+   * can be archived before the deletion commits.
+   *
+   * @param cutoff the retention cutoff
+   * @param batchSize the maximum number of events to delete
+   * @return the deleted events
+   */
+  @Query(value = "DELETE FROM task_events WHERE (id, occurred_at) IN ("
+      + "  SELECT id, occurred_at FROM task_events WHERE occurred_at < :cutoff LIMIT :batchSize"
+      + ") RETURNING id AS \"id\", task_id AS \"taskId\", event_type AS \"eventType\", "
+      + "  occurred_at AS \"occurredAt\"", nativeQuery = true)
+  List<ArchivedEventRow> deleteAndReturnEventsBefore(
+      @Param("cutoff") LocalDateTime cutoff,
+      @Param("batchSize") int batchSize);
 }
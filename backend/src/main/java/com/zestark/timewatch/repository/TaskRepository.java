@@ -2,10 +2,15 @@ package com.zestark.timewatch.repository;
 
 import com.zestark.timewatch.domain.model.Task;
 import com.zestark.timewatch.domain.model.TaskStatus;
-import com.zestark.timewatch.domain.model.User;
+import com.zestark.timewatch.domain.model.TaskSummary;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -17,21 +22,42 @@ import org.springframework.stereotype.Repository;
 public interface TaskRepository extends JpaRepository<Task, UUID> {
 
   /**
-   * Finds all tasks belonging to a specific user.
+   * Select list of {@link TaskSummary}, aliased to its property names.
+   */
+  String SUMMARY_COLUMNS = "t.id AS id, t.user.id AS userId, t.taskName AS taskName, "
+      + "t.description AS description, t.status AS status, "
+      + "t.createdAt AS createdAt, t.updatedAt AS updatedAt";
+
+  /**
+   * Finds one page of task summaries belonging to a specific user.
    *
-   * @param user the user whose tasks to retrieve
-   * @return a list of tasks belonging to the user
+   * <p>Filters on the user_id foreign key directly, without loading the user, and selects
+   * only the columns of the summary.
+   *
+   * @param userId the ID of the user whose tasks to retrieve
+   * @param pageable the page and sort order to retrieve
+   * @return a page of task summaries belonging to the user
    */
-  List<Task> findByUser(User user);
+  @Query("SELECT " + SUMMARY_COLUMNS + " FROM Task t WHERE t.user.id = :userId")
+  Page<TaskSummary> findSummariesByUserId(@Param("userId") UUID userId, Pageable pageable);
 
   /**
-   * Finds all tasks belonging to a specific user with a specific status.
+   * Finds one page of task summaries belonging to a specific user with one of the given
+   * statuses.
    *
-   * @param user the user whose tasks to retrieve
-   * @param status the status to filter by
-   * @return a list of tasks belonging to the user with the specified status
+   * <p>Served by the composite index on (user_id, status, updated_at).
+   *
+   * @param userId the ID of the user whose tasks to retrieve
+   * @param statuses the statuses to filter by
+   * @param pageable the page and sort order to retrieve
+   * @return a page of task summaries belonging to the user with one of the specified statuses
    */
-  List<Task> findByUserAndStatus(User user, TaskStatus status);
+  @Query("SELECT " + SUMMARY_COLUMNS + " FROM Task t "
+      + "WHERE t.user.id = :userId AND t.status IN :statuses")
+  Page<TaskSummary> findSummariesByUserIdAndStatusIn(
+      @Param("userId") UUID userId,
+      @Param("statuses") Collection<TaskStatus> statuses,
+      Pageable pageable);
 
   /**
    * Finds all tasks with a specific status.
@@ -1,36 +1,112 @@
 package com.zestark.timewatch.repository;
 
+import com.zestark.timewatch.domain.model.ArchivedSessionRow;
+import com.zestark.timewatch.domain.model.SessionExportRow;
 import com.zestark.timewatch.domain.model.Task;
 import com.zestark.timewatch.domain.model.TaskSession;
+import com.zestark.timewatch.domain.model.TaskSessionSummary;
+import com.zestark.timewatch.domain.model.TaskUsageSummary;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
  * Repository interface for TaskSession entity.
  *
- * <p>Provides database access methods for task session-related operations.
+ * <p>Provides database access methods for task session-related operations. Modifying native
+ * queries name the table they write as their query space; without it, Hibernate would evict
+ * every second-level cache region after each of them.
  */
 @Repository
 public interface TaskSessionRepository extends JpaRepository<TaskSession, UUID> {
 
   /**
-   * Finds all sessions belonging to a specific task.
+   * Number of rows fetched per round trip when streaming the session export.
+   */
+  String EXPORT_FETCH_SIZE = "1000";
+
+  /**
+   * Select list of {@link TaskSessionSummary} for native queries, aliased to its property
+   * names. The aliases are quoted because PostgreSQL folds unquoted identifiers to lower
+   * case.
+   */
+  String SUMMARY_COLUMNS = "id AS \"id\", task_id AS \"taskId\", "
+      + "start_time AS \"startTime\", end_time AS \"endTime\", created_at AS \"createdAt\"";
+
+  /**
+   * Adds the sessions of a preceding {@code stopped_session} relation to the daily usage
+   * rollup. Each session is split at midnight and every day slice is upserted.
+   */
+  String ADD_STOPPED_SESSIONS_TO_DAILY_USAGE =
+      "INSERT INTO daily_task_usage (user_id, task_id, day, seconds)"
+      + "  SELECT e.user_id, e.task_id, CAST(d.day AS date), SUM(CAST(EXTRACT(EPOCH FROM"
+      + "    LEAST(e.end_time, d.day + INTERVAL '1 day') - GREATEST(e.start_time, d.day)"
+      + "  ) AS bigint))"
+      + "  FROM stopped_session e CROSS JOIN LATERAL generate_series("
+      + "    date_trunc('day', e.start_time), e.end_time - INTERVAL '1 microsecond',"
+      + "    INTERVAL '1 day') AS d(day)"
+      + "  GROUP BY e.user_id, e.task_id, d.day"
+      + "  ON CONFLICT (user_id, day, task_id)"
+      + "  DO UPDATE SET seconds = daily_task_usage.seconds + EXCLUDED.seconds";
+
+  /**
+   * Finds the first page of a task's session summaries, newest first.
+   *
+   * @param taskId the ID of the task whose sessions to retrieve
+   * @param completedOnly whether to return only completed sessions (end_time IS NOT NULL)
+   * @param limit the maximum number of sessions to return
+   * @return a list of session summaries ordered by (start_time, id) descending
+   */
+  @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM task_sessions WHERE task_id = :taskId "
+      + "AND (:completedOnly = FALSE OR end_time IS NOT NULL) "
+      + "ORDER BY start_time DESC, id DESC LIMIT :limit", nativeQuery = true)
+  List<TaskSessionSummary> findFirstSessionPage(
+      @Param("taskId") UUID taskId,
+      @Param("completedOnly") boolean completedOnly,
+      @Param("limit") int limit);
+
+  /**
+   * Finds the page of a task's session summaries that follows a keyset cursor, newest
+   * first.
+   *
+   * <p>The row comparison on (start_time, id) is served by the composite index on
+   * (task_id, start_time, id), so deep pages cost the same as the first page.
    *
-   * @param task the task whose sessions to retrieve
-   * @return a list of sessions belonging to the task
+   * @param taskId the ID of the task whose sessions to retrieve
+   * @param completedOnly whether to return only completed sessions (end_time IS NOT NULL)
+   * @param cursorStartTime the start time of the last session of the previous page
+   * @param cursorSessionId the ID of the last session of the previous page
+   * @param limit the maximum number of sessions to return
+   * @return a list of session summaries ordered by (start_time, id) descending
    */
-  List<TaskSession> findByTask(Task task);
+  @Query(value = "SELECT " + SUMMARY_COLUMNS + " FROM task_sessions WHERE task_id = :taskId "
+      + "AND (:completedOnly = FALSE OR end_time IS NOT NULL) "
+      + "AND (start_time, id) < (:cursorStartTime, :cursorSessionId) "
+      + "ORDER BY start_time DESC, id DESC LIMIT :limit", nativeQuery = true)
+  List<TaskSessionSummary> findSessionPageAfter(
+      @Param("taskId") UUID taskId,
+      @Param("completedOnly") boolean completedOnly,
+      @Param("cursorStartTime") LocalDateTime cursorStartTime,
+      @Param("cursorSessionId") UUID cursorSessionId,
+      @Param("limit") int limit);
 
   /**
    * Finds the currently running session for a task (end_time IS NULL).
    *
-   * <p>Due to database-level exclusion control (UNIQUE INDEX WHERE end_time IS NULL),
-   * there can be at most one running session per task.
+   * <p>Due to database-level exclusion control (the ux_task_running key of
+   * task_running_locks), there can be at most one running session per task.
    *
    * @param task the task to check for a running session
    * @return an Optional containing the running session if found, empty otherwise
@@ -39,12 +115,396 @@ public interface TaskSessionRepository extends JpaRepository<TaskSession, UUID>
   Optional<TaskSession> findRunningSessionByTask(@Param("task") Task task);
 
   /**
-   * Finds all completed sessions for a task (end_time IS NOT NULL).
+   * Finds summaries of all currently running sessions of a user.
+   *
+   * <p>Served by the partial index on (user_id) WHERE end_time IS NULL, so the cost
+   * does not depend on how many tasks the user has.
+   *
+   * @param userId the ID of the user
+   * @return a list of running session summaries, oldest first
+   */
+  @Query("SELECT ts.id AS id, ts.task.id AS taskId, ts.startTime AS startTime, "
+      + "ts.endTime AS endTime, ts.createdAt AS createdAt FROM TaskSession ts "
+      + "WHERE ts.userId = :userId AND ts.endTime IS NULL ORDER BY ts.startTime")
+  List<TaskSessionSummary> findRunningSessionsByUserId(@Param("userId") UUID userId);
+
+  /**
+   * Finds the currently running sessions for a set of tasks.
+   *
+   * @param taskIds the IDs of the tasks to check
+   * @return a list of running sessions, at most one per task
+   */
+  @Query("SELECT ts FROM TaskSession ts WHERE ts.task.id IN :taskIds AND ts.endTime IS NULL")
+  List<TaskSession> findRunningSessionsByTaskIds(@Param("taskIds") Collection<UUID> taskIds);
+
+  /**
+   * Counts the running sessions of all users.
+   *
+   * <p>Counts the rows of task_running_locks, which the session triggers keep at one row per
+   * running session, instead of scanning every partition of task_sessions.
+   *
+   * @return the number of sessions without an end time
+   */
+  @Query(value = "SELECT COUNT(*) FROM task_running_locks", nativeQuery = true)
+  long countRunningSessions();
+
+  /**
+   * Sums the time a user spent per task and report period.
+   *
+   * <p>Completed sessions are read from the daily usage rollup, so the cost depends on
+   * days and tasks rather than on the number of sessions. Running sessions are added
+   * live: each is clipped to the date range, split at midnight and counts up to
+   * {@code now}. The days are then truncated to the report period.
+   *
+   * <p>The range is bound as dates so that day boundaries follow the database's wall clock,
+   * the same clock the session timestamps are stored in.
+   *
+   * @param userId the ID of the user
+   * @param dateTruncField the date_trunc field of the report period (day, week or month)
+   * @param from the first day of the range (inclusive)
+   * @param to the last day of the range (inclusive)
+   * @param now the end time assumed for running sessions
+   * @return the usage per task and period, ordered by period and task name
+   */
+  @Query(value = "SELECT u.task_id AS \"taskId\", t.task_name AS \"taskName\", "
+      + "  CAST(date_trunc(:dateTruncField, u.day) AS date) AS \"periodStart\", "
+      + "  CAST(SUM(u.seconds) AS bigint) AS \"totalSeconds\" "
+      + "FROM ("
+      + "  SELECT task_id, day, seconds FROM daily_task_usage"
+      + "  WHERE user_id = :userId AND day BETWEEN CAST(:from AS date) AND CAST(:to AS date)"
+      + "  UNION ALL"
+      + "  SELECT r.task_id, CAST(d.day AS date), CAST(EXTRACT(EPOCH FROM"
+      + "    LEAST(r.clipped_end, d.day + INTERVAL '1 day') - GREATEST(r.clipped_start, d.day)"
+      + "  ) AS bigint)"
+      + "  FROM ("
+      + "    SELECT task_id,"
+      + "      GREATEST(start_time, CAST(:from AS date)) AS clipped_start,"
+      + "      LEAST(CAST(:now AS timestamp), CAST(:to AS date) + 1) AS clipped_end"
+      + "    FROM task_sessions WHERE user_id = :userId AND end_time IS NULL"
+      + "  ) r "
+      + "  CROSS JOIN LATERAL generate_series("
+      + "    date_trunc('day', r.clipped_start), r.clipped_end - INTERVAL '1 microsecond',"
+      + "    INTERVAL '1 day') AS d(day)"
+      + "  WHERE r.clipped_end > r.clipped_start"
+      + ") u "
+      + "JOIN tasks t ON t.id = u.task_id "
+      + "GROUP BY u.task_id, t.task_name, 3 "
+      + "ORDER BY 3, t.task_name, u.task_id", nativeQuery = true)
+  List<TaskUsageSummary> sumUsageByUser(
+      @Param("userId") UUID userId,
+      @Param("dateTruncField") String dateTruncField,
+      @Param("from") LocalDate from,
+      @Param("to") LocalDate to,
+      @Param("now") LocalDateTime now);
+
+  /**
+   * Streams the sessions of a user that started within a date range, oldest first.
+   *
+   * <p>Rows are fetched from a server-side cursor in chunks of {@link #EXPORT_FETCH_SIZE}
+   * and mapped to projections, so memory use does not grow with the number of rows. The
+   * stream must be consumed and closed inside a transaction.
+   *
+   * @param userId the ID of the user
+   * @param from the first day of the range (inclusive)
+   * @param to the last day of the range (inclusive)
+   * @return a stream of export rows ordered by (start_time, id)
+   */
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query(value = "SELECT s.id AS \"sessionId\", s.task_id AS \"taskId\", "
+      + "  t.task_name AS \"taskName\", s.start_time AS \"startTime\", "
+      + "  s.end_time AS \"endTime\", "
+      + "  CAST(EXTRACT(EPOCH FROM s.end_time - s.start_time) AS bigint) AS \"durationSeconds\" "
+      + "FROM task_sessions s JOIN tasks t ON t.id = s.task_id "
+      + "WHERE s.user_id = :userId "
+      + "AND s.start_time >= CAST(:from AS date) AND s.start_time < CAST(:to AS date) + 1 "
+      + "ORDER BY s.start_time, s.id", nativeQuery = true)
+  Stream<SessionExportRow> streamSessionsForExport(
+      @Param("userId") UUID userId,
+      @Param("from") LocalDate from,
+      @Param("to") LocalDate to);
+
+  /**
+   * Locks the daily usage rollup against concurrent writes until the transaction ends.
+   *
+   * <p>Session stops that are in flight finish first, and later ones wait, so a rebuild
+   * neither misses nor double-counts a session.
+   */
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_task_usage"))
+  @Query(value = "LOCK TABLE daily_task_usage IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+  void lockDailyUsage();
+
+  /**
+   * Deletes the daily usage rollup rows of a date range.
+   *
+   * @param from the first day of the range (inclusive)
+   * @param to the last day of the range (inclusive)
+   * @return the number of rows deleted
+   */
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_task_usage"))
+  @Query(value = "DELETE FROM daily_task_usage WHERE day BETWEEN :from AND :to",
+      nativeQuery = true)
+  int deleteDailyUsage(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+  /**
+   * Recomputes the daily usage rollup rows of a date range from completed sessions.
+   *
+   * <p>The range must have been cleared with {@link #deleteDailyUsage} first.
+   *
+   * @param from the first day of the range (inclusive)
+   * @param to the last day of the range (inclusive)
+   * @return the number of rows inserted
+   */
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "daily_task_usage"))
+  @Query(value = "INSERT INTO daily_task_usage (user_id, task_id, day, seconds) "
+      + "SELECT s.user_id, s.task_id, CAST(d.day AS date), SUM(CAST(EXTRACT(EPOCH FROM"
+      + "  LEAST(s.clipped_end, d.day + INTERVAL '1 day') - GREATEST(s.clipped_start, d.day)"
+      + ") AS bigint)) "
+      + "FROM ("
+      + "  SELECT user_id, task_id,"
+      + "    GREATEST(start_time, CAST(:from AS date)) AS clipped_start,"
+      + "    LEAST(end_time, CAST(:to AS date) + 1) AS clipped_end"
+      + "  FROM task_sessions"
+      + "  WHERE end_time > CAST(:from AS date) AND start_time < CAST(:to AS date) + 1"
+      + ") s "
+      + "CROSS JOIN LATERAL generate_series("
+      + "  date_trunc('day', s.clipped_start), s.clipped_end - INTERVAL '1 microsecond',"
+      + "  INTERVAL '1 day') AS d(day) "
+      + "GROUP BY s.user_id, s.task_id, d.day", nativeQuery = true)
+  int insertDailyUsageFromSessions(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+  /**
+   * Creates the monthly partitions of task_sessions and task_events for a range of months.
+   *
+   * <p>Months whose partitions already exist are skipped. Rows of a new month that were
+   * stored in the default partition are moved into the new partition.
+   *
+   * @param fromMonth a day in the first month (inclusive)
+   * @param toMonth a day in the last month (inclusive)
+   * @return the number of partitions created
+   */
+  @Query(value = "SELECT create_monthly_partitions(:fromMonth, :toMonth)", nativeQuery = true)
+  int createMonthlyPartitions(
+      @Param("fromMonth") LocalDate fromMonth,
+      @Param("toMonth") LocalDate toMonth);
+
+  /**
+   * Detaches and drops the oldest monthly partition of task_sessions that ends before the
+   * cutoff. Partitions that still contain a running session are kept.
+   *
+   * <p>Detaching takes an ACCESS EXCLUSIVE lock on task_sessions, so the call fails instead
+   * of queueing the timer requests behind it once the lock timeout is exceeded.
+   *
+   * @param cutoff the retention cutoff
+   * @param lockTimeoutMillis the lock timeout in milliseconds
+   * @return the name of the dropped partition, or null if no partition has expired
+   */
+  @Query(value = "SELECT drop_expired_partition("
+      + "'task_sessions', :cutoff, 'end_time IS NULL', :lockTimeoutMillis)", nativeQuery = true)
+  String dropExpiredPartition(
+      @Param("cutoff") LocalDateTime cutoff,
+      @Param("lockTimeoutMillis") String lockTimeoutMillis);
+
+  /**
+   * Deletes a batch of completed sessions that started before the cutoff.
+   *
+   * <p>Running sessions are never deleted, since their running-session locks would be left
+   * behind.
+   *
+   * @param cutoff the retention cutoff
+   * @param batchSize the maximum number of sessions to delete
+   * @return the number of sessions deleted
+   */
+  @Modifying
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_sessions"))
+  @Query(value = "DELETE FROM task_sessions WHERE (id, start_time) IN ("
+      + "  SELECT id, start_time FROM task_sessions"
+      + "  WHERE start_time < :cutoff AND end_time IS NOT NULL LIMIT :batchSize"
+      + ")", nativeQuery = true)
+  int deleteCompletedSessionsBefore(
+      @Param("cutoff") LocalDateTime cutoff,
+      @Param("batchSize") int batchSize);
+
+  /**
+   * Deletes a batch of completed sessions that started before the cutoff and returns them,
+   * so they can be archived before the deletion commits.
+   *
+   * @param cutoff the retention cutoff
+   * @param batchSize the maximum number of sessions to delete
+   * @return the deleted sessions
+   * @see #deleteCompletedSessionsBefore(LocalDateTime, int)
+   */
+  @Query(value = "DELETE FROM task_sessions WHERE (id, start_time) IN ("
+      + "  SELECT id, start_time FROM task_sessions"
+      + "  WHERE start_time < :cutoff AND end_time IS NOT NULL LIMIT :batchSize"
+      + ") RETURNING id AS \"id\", task_id AS \"taskId\", user_id AS \"userId\", "
+      + "  start_time AS \"startTime\", end_time AS \"endTime\", created_at AS \"createdAt\"",
+      nativeQuery = true)
+  List<ArchivedSessionRow> deleteAndReturnCompletedSessionsBefore(
+      @Param("cutoff") LocalDateTime cutoff,
+      @Param("batchSize") int batchSize);
+
+  /**
+   * Starts a session for a task in a single database round trip.
+   *
+   * <p>Sets the task status to RUNNING, inserts the running session and records a START
+   * event in one statement. A second running session for the same task violates
+   * {@code ux_task_running}, the key of the running-session locks a trigger maintains, and
+   * surfaces as a DataIntegrityViolationException.
+   *
+   * @param taskId the ID of the task to start
+   * @param startTime the start time of the session
+   * @return an Optional containing the started session, empty if the task does not exist
+   */
+  @Query(value = "WITH started_task AS ("
+      + "  UPDATE tasks SET status = 'RUNNING', updated_at = :startTime"
+      + "  WHERE id = :taskId RETURNING id, user_id"
+      + "), started_session AS ("
+      + "  INSERT INTO task_sessions (id, task_id, user_id, start_time, created_at)"
+      + "  SELECT uuid_generate_v4(), id, user_id, :startTime, :startTime FROM started_task"
+      + "  RETURNING id, task_id, user_id, start_time, end_time, created_at"
+      + "), start_event AS ("
+      + "  INSERT INTO task_events (id, task_id, event_type, occurred_at)"
+      + "  SELECT uuid_generate_v4(), task_id, 'START', start_time FROM started_session"
+      + ") "
+      + "SELECT * FROM started_session", nativeQuery = true)
+  Optional<TaskSession> startSession(
+      @Param("taskId") UUID taskId,
+      @Param("startTime") LocalDateTime startTime);
+
+  /**
+   * Stops the running session of a task in a single database round trip.
+   *
+   * <p>Ends the running session, sets the task status to PENDING, records a STOP event
+   * and adds the session to the daily usage rollup in one statement.
+   *
+   * @param taskId the ID of the task to stop
+   * @param endTime the end time of the session
+   * @return an Optional containing the ended session, empty if no session was running
+   */
+  @Query(value = "WITH stopped_session AS ("
+      + "  UPDATE task_sessions SET end_time = :endTime"
+      + "  WHERE task_id = :taskId AND end_time IS NULL"
+      + "  RETURNING id, task_id, user_id, start_time, end_time, created_at"
+      + "), stopped_task AS ("
+      + "  UPDATE tasks SET status = 'PENDING', updated_at = :endTime"
+      + "  WHERE id IN (SELECT task_id FROM stopped_session)"
+      + "), stop_event AS ("
+      + "  INSERT INTO task_events (id, task_id, event_type, occurred_at)"
+      + "  SELECT uuid_generate_v4(), task_id, 'STOP', end_time FROM stopped_session"
+      + "), usage_rollup AS ("
+      + ADD_STOPPED_SESSIONS_TO_DAILY_USAGE
+      + ") "
+      + "SELECT * FROM stopped_session", nativeQuery = true)
+  Optional<TaskSession> stopSession(
+      @Param("taskId") UUID taskId,
+      @Param("endTime") LocalDateTime endTime);
+
+  /**
+   * Stops the running sessions of many tasks in a single database round trip.
+   *
+   * <p>Ends the running sessions, sets their tasks to PENDING, records a STOP event for each
+   * and adds them to the daily usage rollup in one statement. A session that a concurrent
+   * request stops first no longer matches end_time IS NULL when the row lock is released,
+   * so it is neither ended twice nor added to the rollup twice.
+   *
+   * @param taskIds the IDs of the tasks to stop
+   * @param endTime the end time of the sessions
+   * @return the ended sessions, at most one per task
+   */
+  @Query(value = "WITH stopped_session AS ("
+      + "  UPDATE task_sessions SET end_time = :endTime"
+      + "  WHERE task_id IN (:taskIds) AND end_time IS NULL"
+      + "  RETURNING id, task_id, user_id, start_time, end_time, created_at"
+      + "), stopped_task AS ("
+      + "  UPDATE tasks SET status = 'PENDING', updated_at = :endTime"
+      + "  WHERE id IN (SELECT task_id FROM stopped_session)"
+      + "), stop_event AS ("
+      + "  INSERT INTO task_events (id, task_id, event_type, occurred_at)"
+      + "  SELECT uuid_generate_v4(), task_id, 'STOP', end_time FROM stopped_session"
+      + "), usage_rollup AS ("
+      + ADD_STOPPED_SESSIONS_TO_DAILY_USAGE
+      + ") "
+      + "SELECT * FROM stopped_session", nativeQuery = true)
+  List<TaskSession> stopSessions(
+      @Param("taskIds") Collection<UUID> taskIds,
+      @Param("endTime") LocalDateTime endTime);
+
+  /**
+   * Stops every running session of the owner of a task, except the task itself.
+   *
+   * <p>Ends the sessions, sets their tasks to PENDING, records a STOP event for each and
+   * adds them to the daily usage rollup in one statement.
+   *
+   * @param taskId the ID of the task whose owner's other sessions are stopped
+   * @param endTime the end time of the stopped sessions
+   * @return the ended sessions
+   */
+  @Query(value = "WITH stopped_session AS ("
+      + "  UPDATE task_sessions SET end_time = :endTime"
+      + "  WHERE user_id = (SELECT user_id FROM tasks WHERE id = :taskId)"
+      + "  AND end_time IS NULL AND task_id <> :taskId"
+      + "  RETURNING id, task_id, user_id, start_time, end_time, created_at"
+      + "), stopped_task AS ("
+      + "  UPDATE tasks SET status = 'PENDING', updated_at = :endTime"
+      + "  WHERE id IN (SELECT task_id FROM stopped_session)"
+      + "), stop_event AS ("
+      + "  INSERT INTO task_events (id, task_id, event_type, occurred_at)"
+      + "  SELECT uuid_generate_v4(), task_id, 'STOP', end_time FROM stopped_session"
+      + "), usage_rollup AS ("
+      + ADD_STOPPED_SESSIONS_TO_DAILY_USAGE
+      + ") "
+      + "SELECT * FROM stopped_session", nativeQuery = true)
+  List<TaskSession> stopOtherSessionsOfTaskOwner(
+      @Param("taskId") UUID taskId,
+      @Param("endTime") LocalDateTime endTime);
+
+  /**
+   * Stops every session that has been running for longer than the maximum session
+   * duration, in a single database round trip.
+   *
+   * <p>Each session ends at its start time plus the maximum duration, so a forgotten timer
+   * does not count the time it was left running. The tasks are set to PENDING, a STOP
+   * event is recorded at the session end and the sessions are added to the daily usage
+   * rollup. The sessions are found by a range scan of the partial index on
+   * (start_time) WHERE end_time IS NULL.
+   *
+   * @param now the current time
+   * @param maxSessionHours the maximum session duration in hours
+   * @return the ended sessions
+   */
+  @Query(value = "WITH stopped_session AS ("
+      + "  UPDATE task_sessions"
+      + "  SET end_time = start_time + make_interval(hours => :maxSessionHours)"
+      + "  WHERE end_time IS NULL"
+      + "  AND start_time < CAST(:now AS timestamp) - make_interval(hours => :maxSessionHours)"
+      + "  RETURNING id, task_id, user_id, start_time, end_time, created_at"
+      + "), stopped_task AS ("
+      + "  UPDATE tasks SET status = 'PENDING', updated_at = :now"
+      + "  WHERE id IN (SELECT task_id FROM stopped_session)"
+      + "), stop_event AS ("
+      + "  INSERT INTO task_events (id, task_id, event_type, occurred_at)"
+      + "  SELECT uuid_generate_v4(), task_id, 'STOP', end_time FROM stopped_session"
+      + "), usage_rollup AS ("
+      + ADD_STOPPED_SESSIONS_TO_DAILY_USAGE
+      + ") "
+      + "SELECT * FROM stopped_session", nativeQuery = true)
+  List<TaskSession> stopSessionsRunningLongerThan(
+      @Param("now") LocalDateTime now,
+      @Param("maxSessionHours") int maxSessionHours);
+
+  /**
+   * Tries to take the transaction-scoped advisory lock that serializes the runaway session
+   * sweep across application instances.
    *
-   * @param task the task whose completed sessions to retrieve
-   * @return a list of completed sessions for the task
+   * @return true if the lock was taken, false if another instance holds it
    */
-  @Query("SELECT ts FROM TaskSession ts WHERE ts.task = :task AND ts.endTime IS NOT NULL "
-      + "ORDER BY ts.startTime DESC")
-  List<TaskSession> findCompletedSessionsByTask(@Param("task") Task task);
+  @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('stop_runaway_sessions'))",
+      nativeQuery = true)
+  boolean tryLockRunawaySessionSweep();
 }
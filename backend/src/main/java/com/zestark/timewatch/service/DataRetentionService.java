@@ -0,0 +1,212 @@
+package com.zestark.timewatch.service;
+
+import com.zestark.timewatch.metrics.DataRetentionMetrics;
+import com.zestark.timewatch.repository.TaskEventRepository;
+import com.zestark.timewatch.repository.TaskSessionRepository;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Service class for purging task sessions and task events older than the retention window.
+ *
+ * <p>Whole monthly partitions that have expired are dropped first, one per transaction.
+ * The rows left over in the partially expired month and in the default partitions are
+ * then deleted in small batches, each in its own transaction with a pause in between, so
+ * no lock is held for long. Running sessions are never purged. A run stops when it
+ * reaches its time limit or when a partition cannot be detached within the lock timeout,
+ * and the next run continues where it left off.
+ *
+ * <p>When the {@link HistoryArchiveService archive} is enabled, expired rows are deleted in
+ * batches first and each batch is archived before its transaction commits. Partitions are
+ * dropped only afterwards, once they no longer hold rows that were not archived.
+ */
+@Service
+public class DataRetentionService {
+
+  private static final Logger logger = LoggerFactory.getLogger(DataRetentionService.class);
+
+  private final TaskSessionRepository taskSessionRepository;
+  private final TaskEventRepository taskEventRepository;
+  private final HistoryArchiveService historyArchiveService;
+  private final TransactionTemplate transactionTemplate;
+  private final DataRetentionMetrics retentionMetrics;
+  private final int retentionMonths;
+  private final int batchSize;
+  private final Duration batchPause;
+  private final Duration lockTimeout;
+  private final Duration maxRunDuration;
+
+  /**
+   * Constructor for DataRetentionService.
+   *
+   * @param taskSessionRepository the task session repository
+   * @param taskEventRepository the task event repository
+   * @param historyArchiveService the archive purged rows are written to
+   * @param transactionManager the transaction manager each batch runs in
+   * @param retentionMetrics the retention metrics
+   * @param retentionMonths the number of months of history to keep
+   * @param batchSize the maximum number of rows deleted per transaction
+   * @param batchPause the pause between two batches
+   * @param lockTimeout how long detaching a partition may wait for its table lock
+   * @param maxRunDuration how long one scheduled run may take
+   */
+  public DataRetentionService(
+      TaskSessionRepository taskSessionRepository,
+      TaskEventRepository taskEventRepository,
+      HistoryArchiveService historyArchiveService,
+      PlatformTransactionManager transactionManager,
+      DataRetentionMetrics retentionMetrics,
+      @Value("${timewatch.data-retention.task-history-months:6}") int retentionMonths,
+      @Value("${timewatch.data-retention.batch-size:1000}") int batchSize,
+      @Value("${timewatch.data-retention.batch-pause:200ms}") Duration batchPause,
+      @Value("${timewatch.data-retention.lock-timeout:2s}") Duration lockTimeout,
+      @Value("${timewatch.data-retention.max-run-duration:60m}") Duration maxRunDuration) {
+    this.taskSessionRepository = taskSessionRepository;
+    this.taskEventRepository = taskEventRepository;
+    this.historyArchiveService = historyArchiveService;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.retentionMetrics = retentionMetrics;
+    this.retentionMonths = retentionMonths;
+    this.batchSize = batchSize;
+    this.batchPause = batchPause;
+    this.lockTimeout = lockTimeout;
+    this.maxRunDuration = maxRunDuration;
+  }
+
+  /**
+   * Gets the start of the oldest day whose history is kept.
+   *
+   * @param today the current date
+   * @return the retention cutoff; history before it is purged
+   */
+  public LocalDateTime retentionCutoff(LocalDate today) {
+    return today.minusMonths(retentionMonths).atStartOfDay();
+  }
+
+  /**
+   * Purges the sessions and events older than a cutoff.
+   *
+   * @param cutoff the retention cutoff
+   * @return true if everything older than the cutoff was purged, false if the run stopped
+   *     early and has to be continued
+   */
+  public boolean purgeHistoryBefore(LocalDateTime cutoff) {
+    long deadlineNanos = System.nanoTime() + maxRunDuration.toNanos();
+    String lockTimeoutMillis = String.valueOf(lockTimeout.toMillis());
+    String outcome;
+    try {
+      boolean completed = historyArchiveService.isEnabled()
+          ? archiveExpiredRows(cutoff, deadlineNanos)
+              && dropExpiredPartitions(cutoff, lockTimeoutMillis, deadlineNanos)
+          : dropExpiredPartitions(cutoff, lockTimeoutMillis, deadlineNanos)
+              && deleteExpiredRows(cutoff, deadlineNanos);
+      outcome = completed
+          ? DataRetentionMetrics.COMPLETED
+          : DataRetentionMetrics.TIME_LIMIT_REACHED;
+    } catch (PessimisticLockingFailureException exception) {
+      logger.warn("Data-retention purge gave up waiting for a table lock: {}",
+          exception.getMessage());
+      outcome = DataRetentionMetrics.LOCK_TIMEOUT;
+    } catch (UncheckedIOException exception) {
+      logger.error("Data-retention purge could not write the history archive", exception);
+      outcome = DataRetentionMetrics.ARCHIVE_FAILED;
+    }
+    retentionMetrics.recordRun(outcome, Instant.now());
+    return DataRetentionMetrics.COMPLETED.equals(outcome);
+  }
+
+  /**
+   * Purges the history older than the retention window on a schedule.
+   */
+  @Scheduled(cron = "${timewatch.data-retention.purge-cron:0 15 2 * * *}")
+  public void purgeExpiredHistory() {
+    LocalDateTime cutoff = retentionCutoff(LocalDate.now());
+    if (purgeHistoryBefore(cutoff)) {
+      logger.info("Purged task history before {}", cutoff);
+    } else {
+      logger.info("Purge of task history before {} stopped early; continuing on the next run",
+          cutoff);
+    }
+  }
+
+  private boolean dropExpiredPartitions(
+      LocalDateTime cutoff, String lockTimeoutMillis, long deadlineNanos) {
+    return dropEachExpiredPartition(DataRetentionMetrics.TASK_SESSIONS,
+        () -> taskSessionRepository.dropExpiredPartition(cutoff, lockTimeoutMillis),
+        deadlineNanos)
+        && dropEachExpiredPartition(DataRetentionMetrics.TASK_EVENTS,
+            () -> taskEventRepository.dropExpiredPartition(cutoff, lockTimeoutMillis),
+            deadlineNanos);
+  }
+
+  private boolean deleteExpiredRows(LocalDateTime cutoff, long deadlineNanos) {
+    return deleteInBatches(DataRetentionMetrics.TASK_SESSIONS,
+        () -> taskSessionRepository.deleteCompletedSessionsBefore(cutoff, batchSize),
+        deadlineNanos)
+        && deleteInBatches(DataRetentionMetrics.TASK_EVENTS,
+            () -> taskEventRepository.deleteEventsBefore(cutoff, batchSize),
+            deadlineNanos);
+  }
+
+  private boolean archiveExpiredRows(LocalDateTime cutoff, long deadlineNanos) {
+    return deleteInBatches(DataRetentionMetrics.TASK_SESSIONS,
+        () -> historyArchiveService.archiveSessions(
+            taskSessionRepository.deleteAndReturnCompletedSessionsBefore(cutoff, batchSize)),
+        deadlineNanos)
+        && deleteInBatches(DataRetentionMetrics.TASK_EVENTS,
+            () -> historyArchiveService.archiveEvents(
+                taskEventRepository.deleteAndReturnEventsBefore(cutoff, batchSize)),
+            deadlineNanos);
+  }
+
+  private boolean dropEachExpiredPartition(
+      String table, Supplier<String> partitionDropper, long deadlineNanos) {
+    while (System.nanoTime() < deadlineNanos) {
+      String partitionName = transactionTemplate.execute(status -> partitionDropper.get());
+      if (partitionName == null) {
+        return true;
+      }
+      retentionMetrics.recordDroppedPartition(table);
+      logger.info("Dropped expired partition {}", partitionName);
+    }
+    return false;
+  }
+
+  private boolean deleteInBatches(String table, IntSupplier batchDeleter, long deadlineNanos) {
+    while (System.nanoTime() < deadlineNanos) {
+      Integer rowCount = transactionTemplate.execute(status -> batchDeleter.getAsInt());
+      int deletedCount = rowCount == null ? 0 : rowCount;
+      retentionMetrics.recordDeletedRows(table, deletedCount);
+      if (deletedCount < batchSize) {
+        return true;
+      }
+      if (!pause()) {
+        return false;
+      }
+    }
+    return false;
+  }
+
+  private boolean pause() {
+    try {
+      Thread.sleep(batchPause);
+      return true;
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.zestark.timewatch.service;
+
+import com.zestark.timewatch.domain.model.Task;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Evicts second-level cache entries for rows changed behind Hibernate's back.
+ *
+ * <p>Hibernate keeps cached entities current when they are changed through the persistence
+ * context, but not when native SQL updates the rows or foreign keys cascade a delete.
+ * Entries are evicted immediately and again after the transaction completes, so a
+ * concurrent reader cannot put the pre-commit row back into the cache.
+ */
+@Component
+public class EntityCacheEvictor {
+
+  private final Cache secondLevelCache;
+
+  /**
+   * Constructor for EntityCacheEvictor.
+   *
+   * @param entityManagerFactory the factory owning the second-level cache
+   */
+  public EntityCacheEvictor(EntityManagerFactory entityManagerFactory) {
+    this.secondLevelCache = entityManagerFactory.getCache();
+  }
+
+  /**
+   * Evicts one cached task.
+   *
+   * @param taskId the ID of the task changed by native SQL
+   */
+  public void evictTask(UUID taskId) {
+    evictTasks(List.of(taskId));
+  }
+
+  /**
+   * Evicts cached tasks.
+   *
+   * @param taskIds the IDs of the tasks changed by native SQL
+   */
+  public void evictTasks(Collection<UUID> taskIds) {
+    if (taskIds.isEmpty()) {
+      return;
+    }
+    List<UUID> taskIdList = List.copyOf(taskIds);
+    runNowAndAfterCompletion(() -> taskIdList.forEach(
+        taskId -> secondLevelCache.evict(Task.class, taskId)));
+  }
+
+  /**
+   * Evicts all cached tasks, for changes whose task IDs are not known.
+   */
+  public void evictAllTasks() {
+    runNowAndAfterCompletion(() -> secondLevelCache.evict(Task.class));
+  }
+
+  private void runNowAndAfterCompletion(Runnable eviction) {
+    eviction.run();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+        @Override
+        public void afterCompletion(int status) {
+          eviction.run();
+        }
+      });
+    }
+  }
+}
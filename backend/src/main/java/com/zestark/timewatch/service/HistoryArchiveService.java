@@ -0,0 +1,430 @@
+package com.zestark.timewatch.service;
+
+import com.zestark.timewatch.domain.model.ArchivedEventRow;
+import com.zestark.timewatch.domain.model.ArchivedSessionRow;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service class for the cold archive of purged task sessions and task events.
+ *
+ * <p>Rows are stored as gzip-compressed CSV, one file per table and month of the row's
+ * partition key, for example {@code task_sessions/2026-03.csv.gz}. Every archived batch
+ * is appended to its file as a separate gzip member and forced to disk, so the archive
+ * can be written before the deletion of the same rows commits. If that commit fails, the
+ * rows are archived again by the next run; readers skip the duplicates.
+ *
+ * <p>Next to each archive file, a {@code .committed} file records the length up to which
+ * it holds complete members. It is replaced atomically after every forced append. Readers
+ * only read up to that length, and writers cut off anything beyond it before appending, so
+ * a member left incomplete by a crashed process is never read and never appended to.
+ *
+ * <p>Archive files are read through a memory-mapped buffer, so scanning a month does not
+ * copy the compressed file through the Java heap. A file is mapped whole, which limits one
+ * month of one table to 2 GB of compressed CSV.
+ */
+@Service
+public class HistoryArchiveService {
+
+  static final String TASK_SESSIONS = "task_sessions";
+  static final String TASK_EVENTS = "task_events";
+  static final String SESSIONS_HEADER_LINE = "id,task_id,user_id,start_time,end_time,created_at";
+  static final String EVENTS_HEADER_LINE = "id,task_id,event_type,occurred_at";
+
+  /**
+   * Orders UUIDs like PostgreSQL, which compares their bytes unsigned.
+   */
+  static final Comparator<UUID> DATABASE_UUID_ORDER = Comparator
+      .comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+      .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+  private static final Logger logger = LoggerFactory.getLogger(HistoryArchiveService.class);
+
+  private static final String FILE_SUFFIX = ".csv.gz";
+  private static final String COMMITTED_SUFFIX = ".committed";
+  private static final String LINE_SEPARATOR = "\n";
+
+  private final boolean enabled;
+  private final Path archiveDirectory;
+
+  /**
+   * Constructor for HistoryArchiveService.
+   *
+   * @param enabled whether purged rows are archived
+   * @param archiveDirectory the directory the archive files are stored in
+   */
+  public HistoryArchiveService(
+      @Value("${timewatch.data-retention.archive.enabled:false}") boolean enabled,
+      @Value("${timewatch.data-retention.archive.directory:archive}") Path archiveDirectory) {
+    this.enabled = enabled;
+    this.archiveDirectory = archiveDirectory;
+  }
+
+  /**
+   * Checks whether purged rows are archived.
+   *
+   * @return true if the archive is enabled
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Appends sessions to the archive files of the months they started in.
+   *
+   * @param sessionRows the sessions to archive
+   * @return the number of sessions archived
+   * @throws UncheckedIOException if writing an archive file fails
+   */
+  public int archiveSessions(List<ArchivedSessionRow> sessionRows) {
+    appendRows(TASK_SESSIONS, SESSIONS_HEADER_LINE, sessionRows,
+        ArchivedSessionRow::getStartTime, this::formatSession);
+    return sessionRows.size();
+  }
+
+  /**
+   * Appends events to the archive files of the months they occurred in.
+   *
+   * @param eventRows the events to archive
+   * @return the number of events archived
+   * @throws UncheckedIOException if writing an archive file fails
+   */
+  public int archiveEvents(List<ArchivedEventRow> eventRows) {
+    appendRows(TASK_EVENTS, EVENTS_HEADER_LINE, eventRows,
+        ArchivedEventRow::getOccurredAt, this::formatEvent);
+    return eventRows.size();
+  }
+
+  /**
+   * Streams the archived sessions of a user that started within a date range.
+   *
+   * <p>Months are read lazily one after the other, and only the files of the months
+   * overlapping the range are scanned, so at most one month of the user's sessions is held
+   * in memory.
+   *
+   * @param userId the ID of the user
+   * @param from the first day of the range (inclusive)
+   * @param to the last day of the range (inclusive)
+   * @return the archived sessions ordered by (start_time, id) as the database orders them,
+   *     empty if the archive is disabled
+   * @throws UncheckedIOException if reading an archive file fails
+   */
+  public Stream<ArchivedSessionRow> streamSessions(UUID userId, LocalDate from, LocalDate to) {
+    if (!enabled) {
+      return Stream.empty();
+    }
+    LocalDateTime rangeStart = from.atStartOfDay();
+    LocalDateTime rangeEnd = to.plusDays(1).atStartOfDay();
+    YearMonth lastMonth = YearMonth.from(to);
+    return Stream.iterate(YearMonth.from(from), month -> !month.isAfter(lastMonth),
+            month -> month.plusMonths(1))
+        .flatMap(month -> readSessionsOfMonth(userId, month, rangeStart, rangeEnd).stream());
+  }
+
+  private List<ArchivedSessionRow> readSessionsOfMonth(
+      UUID userId,
+      YearMonth month,
+      LocalDateTime rangeStart,
+      LocalDateTime rangeEnd) {
+    Path archiveFile = archiveFile(TASK_SESSIONS, month);
+    if (!Files.exists(archiveFile)) {
+      return List.of();
+    }
+    // A session is archived in the month it started in, so duplicates share a file
+    Map<UUID, ArchivedSessionRow> sessionRowMap = new HashMap<>();
+    scanLines(archiveFile, line -> {
+      if (line.isEmpty() || line.equals(SESSIONS_HEADER_LINE)) {
+        return;
+      }
+      ArchivedSessionRow sessionRow = parseSession(line);
+      if (sessionRow.getUserId().equals(userId)
+          && !sessionRow.getStartTime().isBefore(rangeStart)
+          && sessionRow.getStartTime().isBefore(rangeEnd)) {
+        sessionRowMap.putIfAbsent(sessionRow.getId(), sessionRow);
+      }
+    });
+    List<ArchivedSessionRow> sessionRowList = new ArrayList<>(sessionRowMap.values());
+    sessionRowList.sort(Comparator.comparing(ArchivedSessionRow::getStartTime)
+        .thenComparing(ArchivedSessionRow::getId, DATABASE_UUID_ORDER));
+    return sessionRowList;
+  }
+
+  private <T> void appendRows(
+      String table,
+      String headerLine,
+      List<T> rows,
+      Function<T, LocalDateTime> partitionKey,
+      Function<T, String> formatter) {
+    Map<YearMonth, List<T>> rowsByMonth = new TreeMap<>();
+    for (T row : rows) {
+      rowsByMonth.computeIfAbsent(YearMonth.from(partitionKey.apply(row)),
+          month -> new ArrayList<>()).add(row);
+    }
+    rowsByMonth.forEach((month, monthRows) -> {
+      try {
+        appendMember(archiveFile(table, month), headerLine, monthRows, formatter);
+      } catch (IOException exception) {
+        throw new UncheckedIOException("Failed to archive " + table + " of " + month, exception);
+      }
+    });
+  }
+
+  /**
+   * Appends rows to an archive file as one gzip member. The file is locked while writing.
+   * Anything beyond the committed length, left by a writer that crashed, is cut off first,
+   * and a member that could not be written completely is cut off again, so the file stays
+   * readable.
+   */
+  private <T> void appendMember(
+      Path archiveFile,
+      String headerLine,
+      List<T> rows,
+      Function<T, String> formatter) throws IOException {
+    Files.createDirectories(archiveFile.getParent());
+    try (FileChannel channel = FileChannel.open(archiveFile,
+        StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        FileLock fileLock = channel.lock()) {
+      long committedLength = readCommittedLength(archiveFile, channel.size());
+      if (channel.size() > committedLength) {
+        logger.warn("Cutting off {} bytes of an incomplete member at the end of {}",
+            channel.size() - committedLength, archiveFile);
+        channel.truncate(committedLength);
+      }
+      ByteBuffer member = ByteBuffer.wrap(
+          compressMember(committedLength == 0 ? headerLine : null, rows, formatter));
+      try {
+        while (member.hasRemaining()) {
+          channel.write(member);
+        }
+        channel.force(true);
+        writeCommittedLength(archiveFile, channel.size());
+      } catch (IOException exception) {
+        channel.truncate(committedLength);
+        throw exception;
+      }
+    }
+  }
+
+  /**
+   * Compresses rows into one gzip member in memory. The gzip stream is closed here, which
+   * releases its native deflater, while the locked archive channel stays open.
+   */
+  private <T> byte[] compressMember(
+      String headerLine,
+      List<T> rows,
+      Function<T, String> formatter) throws IOException {
+    ByteArrayOutputStream memberBytes = new ByteArrayOutputStream();
+    try (Writer csvWriter = new BufferedWriter(new OutputStreamWriter(
+        new GZIPOutputStream(memberBytes), StandardCharsets.UTF_8))) {
+      if (headerLine != null) {
+        csvWriter.write(headerLine);
+        csvWriter.write(LINE_SEPARATOR);
+      }
+      for (T row : rows) {
+        csvWriter.write(formatter.apply(row));
+        csvWriter.write(LINE_SEPARATOR);
+      }
+    }
+    return memberBytes.toByteArray();
+  }
+
+  /**
+   * Reads the length up to which an archive file holds complete members. A file written
+   * before committed lengths were recorded is taken to be complete.
+   */
+  private long readCommittedLength(Path archiveFile, long fileSize) throws IOException {
+    Path committedFile = committedFile(archiveFile);
+    if (!Files.exists(committedFile)) {
+      return fileSize;
+    }
+    return Long.parseLong(Files.readString(committedFile, StandardCharsets.US_ASCII).trim());
+  }
+
+  /**
+   * Records the committed length of an archive file. The record is forced to disk under a
+   * temporary name and then moved into place, so it is never seen half written.
+   */
+  private void writeCommittedLength(Path archiveFile, long length) throws IOException {
+    Path committedFile = committedFile(archiveFile);
+    Path temporaryFile = committedFile.resolveSibling(committedFile.getFileName() + ".tmp");
+    try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+        StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+      channel.write(ByteBuffer.wrap(
+          String.valueOf(length).getBytes(StandardCharsets.US_ASCII)));
+      channel.force(true);
+    }
+    Files.move(temporaryFile, committedFile,
+        StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+  }
+
+  private void scanLines(Path archiveFile, Consumer<String> lineConsumer) {
+    try (FileChannel channel = FileChannel.open(archiveFile, StandardOpenOption.READ)) {
+      long committedLength = readCommittedLength(archiveFile, channel.size());
+      try (BufferedReader csvReader = new BufferedReader(new InputStreamReader(
+          new GZIPInputStream(new ByteBufferInputStream(
+              channel.map(FileChannel.MapMode.READ_ONLY, 0, committedLength))),
+          StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = csvReader.readLine()) != null) {
+          lineConsumer.accept(line);
+        }
+      }
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Failed to read archive file " + archiveFile, exception);
+    }
+  }
+
+  private Path archiveFile(String table, YearMonth month) {
+    return archiveDirectory.resolve(table).resolve(month + FILE_SUFFIX);
+  }
+
+  private Path committedFile(Path archiveFile) {
+    return archiveFile.resolveSibling(archiveFile.getFileName() + COMMITTED_SUFFIX);
+  }
+
+  private String formatSession(ArchivedSessionRow sessionRow) {
+    return String.join(",",
+        sessionRow.getId().toString(),
+        sessionRow.getTaskId().toString(),
+        sessionRow.getUserId().toString(),
+        format(sessionRow.getStartTime()),
+        format(sessionRow.getEndTime()),
+        format(sessionRow.getCreatedAt()));
+  }
+
+  private String formatEvent(ArchivedEventRow eventRow) {
+    return String.join(",",
+        eventRow.getId().toString(),
+        eventRow.getTaskId().toString(),
+        eventRow.getEventType(),
+        format(eventRow.getOccurredAt()));
+  }
+
+  private ArchivedSessionRow parseSession(String line) {
+    String[] fields = line.split(",", -1);
+    return new ParsedSessionRow(
+        UUID.fromString(fields[0]),
+        UUID.fromString(fields[1]),
+        UUID.fromString(fields[2]),
+        parse(fields[3]),
+        parse(fields[4]),
+        parse(fields[5]));
+  }
+
+  private String format(LocalDateTime dateTime) {
+    return dateTime == null ? "" : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+  }
+
+  private LocalDateTime parse(String value) {
+    return value.isEmpty() ? null : LocalDateTime.parse(value);
+  }
+
+  /**
+   * Session read back from an archive file.
+   */
+  private record ParsedSessionRow(
+      UUID id,
+      UUID taskId,
+      UUID userId,
+      LocalDateTime startTime,
+      LocalDateTime endTime,
+      LocalDateTime createdAt) implements ArchivedSessionRow {
+
+    @Override
+    public UUID getId() {
+      return id;
+    }
+
+    @Override
+    public UUID getTaskId() {
+      return taskId;
+    }
+
+    @Override
+    public UUID getUserId() {
+      return userId;
+    }
+
+    @Override
+    public LocalDateTime getStartTime() {
+      return startTime;
+    }
+
+    @Override
+    public LocalDateTime getEndTime() {
+      return endTime;
+    }
+
+    @Override
+    public LocalDateTime getCreatedAt() {
+      return createdAt;
+    }
+  }
+
+  /**
+   * Input stream over a memory-mapped buffer.
+   */
+  private static final class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    private ByteBufferInputStream(ByteBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public int read() {
+      return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+      if (!buffer.hasRemaining()) {
+        return -1;
+      }
+      int readLength = Math.min(length, buffer.remaining());
+      buffer.get(bytes, offset, readLength);
+      return readLength;
+    }
+
+    @Override
+    public int available() {
+      return buffer.remaining();
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package com.zestark.timewatch.service;
+
+import com.zestark.timewatch.repository.TaskSessionRepository;
+import java.time.LocalDate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service class for maintaining the monthly partitions of task_sessions and task_events.
+ *
+ * <p>Partitions are created ahead of time so rows are never written to the default
+ * partition, which would have to be scanned whenever a partition is attached.
+ */
+@Service
+@Transactional
+public class PartitionMaintenanceService {
+
+  private static final Logger logger = LoggerFactory.getLogger(PartitionMaintenanceService.class);
+
+  private final TaskSessionRepository taskSessionRepository;
+  private final int monthsAhead;
+
+  /**
+   * Constructor for PartitionMaintenanceService.
+   *
+   * @param taskSessionRepository the task session repository
+   * @param monthsAhead the number of months after the current one to keep partitions for
+   */
+  public PartitionMaintenanceService(
+      TaskSessionRepository taskSessionRepository,
+      @Value("${timewatch.partitioning.months-ahead:3}") int monthsAhead) {
+    this.taskSessionRepository = taskSessionRepository;
+    this.monthsAhead = monthsAhead;
+  }
+
+  /**
+   * Creates the partitions of the current month and the following months.
+   *
+   * @param today the current date
+   * @return the number of partitions created
+   */
+  public int createUpcomingPartitions(LocalDate today) {
+    return taskSessionRepository.createMonthlyPartitions(
+        today.withDayOfMonth(1), today.plusMonths(monthsAhead).withDayOfMonth(1));
+  }
+
+  /**
+   * Creates upcoming partitions on a schedule.
+   */
+  @Scheduled(cron = "${timewatch.partitioning.precreate-cron:0 0 4 * * *}")
+  public void precreatePartitions() {
+    int partitionCount = createUpcomingPartitions(LocalDate.now());
+    if (partitionCount > 0) {
+      logger.info("Created {} monthly partitions up to {} months ahead",
+          partitionCount, monthsAhead);
+    }
+  }
+}
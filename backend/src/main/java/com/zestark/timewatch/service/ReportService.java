@@ -0,0 +1,57 @@
+package com.zestark.timewatch.service;
+
+import com.zestark.timewatch.domain.model.ReportGranularity;
+import com.zestark.timewatch.domain.model.TaskUsageSummary;
+import com.zestark.timewatch.repository.TaskSessionRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service class for time-usage reports.
+ *
+ * <p>Aggregates session durations in the database instead of loading sessions.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ReportService {
+
+  private final TaskSessionRepository taskSessionRepository;
+
+  public ReportService(TaskSessionRepository taskSessionRepository) {
+    this.taskSessionRepository = taskSessionRepository;
+  }
+
+  /**
+   * Gets the time a user spent per task and period over a date range.
+   *
+   * <p>Running sessions count up to now. Periods without recorded time are omitted.
+   *
+   * @param userId the ID of the user
+   * @param from the first day of the range (inclusive)
+   * @param to the last day of the range (inclusive)
+   * @param granularity the period length to group by
+   * @return the usage per task and period, ordered by period and task name
+   * @throws IllegalArgumentException if from is after to
+   */
+  public List<TaskUsageSummary> getUsageReport(
+      UUID userId,
+      LocalDate from,
+      LocalDate to,
+      ReportGranularity granularity) {
+    if (from.isAfter(to)) {
+      throw new IllegalArgumentException(
+          "Report start date must not be after end date: " + from + " > " + to);
+    }
+    return taskSessionRepository.sumUsageByUser(
+        userId,
+        granularity.toDateTruncField(),
+        from,
+        to,
+        LocalDateTime.now()
+    );
+  }
+}
@@ -0,0 +1,101 @@
+package com.zestark.timewatch.service;
+
+import com.zestark.timewatch.domain.model.TaskSession;
+import com.zestark.timewatch.domain.model.TaskStateChangedEvent;
+import com.zestark.timewatch.metrics.TaskSessionMetrics;
+import com.zestark.timewatch.repository.TaskSessionRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service class for stopping timer sessions that were left running.
+ *
+ * <p>Sessions running for longer than the maximum session duration are stopped with one
+ * set-based statement, without loading them first. The sweep runs on every instance, and
+ * an advisory lock lets only one of them stop sessions at a time.
+ */
+@Service
+@Transactional
+public class SessionAutoStopService {
+
+  private static final Logger logger = LoggerFactory.getLogger(SessionAutoStopService.class);
+
+  private final TaskSessionRepository taskSessionRepository;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TaskSessionMetrics sessionMetrics;
+  private final EntityCacheEvictor cacheEvictor;
+  private final int maxSessionHours;
+
+  /**
+   * Constructor for SessionAutoStopService.
+   *
+   * @param taskSessionRepository the task session repository
+   * @param eventPublisher the publisher of task state changes
+   * @param sessionMetrics the session meters
+   * @param cacheEvictor the evictor of tasks updated by native SQL
+   * @param maxSessionHours the maximum session duration in hours
+   */
+  public SessionAutoStopService(
+      TaskSessionRepository taskSessionRepository,
+      ApplicationEventPublisher eventPublisher,
+      TaskSessionMetrics sessionMetrics,
+      EntityCacheEvictor cacheEvictor,
+      @Value("${timewatch.timer.max-session-duration-hours:24}") int maxSessionHours) {
+    this.taskSessionRepository = taskSessionRepository;
+    this.eventPublisher = eventPublisher;
+    this.sessionMetrics = sessionMetrics;
+    this.cacheEvictor = cacheEvictor;
+    this.maxSessionHours = maxSessionHours;
+  }
+
+  /**
+   * Stops every session that has been running for longer than the maximum duration.
+   *
+   * <p>Each session ends at its start time plus the maximum duration. Nothing is stopped
+   * if another instance is sweeping at the same time.
+   *
+   * @param now the current time
+   * @return the stopped sessions
+   */
+  public List<TaskSession> stopRunawaySessions(LocalDateTime now) {
+    if (!taskSessionRepository.tryLockRunawaySessionSweep()) {
+      return List.of();
+    }
+    List<TaskSession> stoppedSessionList =
+        taskSessionRepository.stopSessionsRunningLongerThan(now, maxSessionHours);
+    if (stoppedSessionList.isEmpty()) {
+      return stoppedSessionList;
+    }
+    cacheEvictor.evictTasks(stoppedSessionList.stream()
+        .map(stoppedSession -> stoppedSession.getTask().getId())
+        .toList());
+    for (TaskSession stoppedSession : stoppedSessionList) {
+      eventPublisher.publishEvent(TaskStateChangedEvent.sessionStopped(stoppedSession));
+    }
+    sessionMetrics.recordAutoStops(stoppedSessionList.size());
+    return stoppedSessionList;
+  }
+
+  /**
+   * Stops runaway sessions on a schedule. The interval is the tolerance by which a session
+   * may exceed the maximum duration before it is stopped.
+   */
+  @Scheduled(
+      fixedDelayString = "${timewatch.timer.auto-end-tolerance-seconds:60}",
+      timeUnit = TimeUnit.SECONDS)
+  public void sweepRunawaySessions() {
+    List<TaskSession> stoppedSessionList = stopRunawaySessions(LocalDateTime.now());
+    if (!stoppedSessionList.isEmpty()) {
+      logger.info("Stopped {} sessions running longer than {} hours",
+          stoppedSessionList.size(), maxSessionHours);
+    }
+  }
+}
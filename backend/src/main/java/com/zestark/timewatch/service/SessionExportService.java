@@ -0,0 +1,230 @@
+package com.zestark.timewatch.service;
+
+import com.zestark.timewatch.domain.model.ArchivedSessionRow;
+import com.zestark.timewatch.domain.model.SessionExportRow;
+import com.zestark.timewatch.domain.model.TaskSummary;
+import com.zestark.timewatch.repository.TaskRepository;
+import com.zestark.timewatch.repository.TaskSessionRepository;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service class for exporting task sessions as CSV.
+ *
+ * <p>Rows are streamed from the database straight to the output, so the export runs in
+ * constant memory regardless of the number of sessions. Sessions that were moved to the
+ * {@link HistoryArchiveService history archive} by the data-retention purge are streamed
+ * from the archive files one month at a time and merged with the database rows in
+ * (start_time, id) order, so memory is bounded by one month of the user's archived
+ * sessions and by the user's task names.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SessionExportService {
+
+  /**
+   * Byte order mark written first so that spreadsheet applications detect UTF-8.
+   */
+  private static final char BYTE_ORDER_MARK = '\uFEFF';
+  private static final String HEADER_LINE =
+      "session_id,task_id,task_name,start_time,end_time,duration_seconds";
+  private static final String LINE_SEPARATOR = "\r\n";
+
+  private final TaskSessionRepository taskSessionRepository;
+  private final TaskRepository taskRepository;
+  private final HistoryArchiveService historyArchiveService;
+
+  /**
+   * Constructor for SessionExportService.
+   *
+   * @param taskSessionRepository the task session repository
+   * @param taskRepository the task repository
+   * @param historyArchiveService the archive of purged sessions
+   */
+  public SessionExportService(
+      TaskSessionRepository taskSessionRepository,
+      TaskRepository taskRepository,
+      HistoryArchiveService historyArchiveService) {
+    this.taskSessionRepository = taskSessionRepository;
+    this.taskRepository = taskRepository;
+    this.historyArchiveService = historyArchiveService;
+  }
+
+  /**
+   * Writes the sessions of a user that started within a date range as CSV, oldest first.
+   *
+   * <p>Running sessions are exported with empty end_time and duration_seconds. Archived
+   * sessions of tasks that have since been deleted are left out, as they are in the
+   * database. The user's task names are loaded once, when the first archived session is
+   * written.
+   *
+   * @param userId the ID of the user
+   * @param from the first day of the range (inclusive)
+   * @param to the last day of the range (inclusive)
+   * @param outputStream the stream to write UTF-8 CSV to; it is flushed but not closed
+   * @throws UncheckedIOException if writing to the output stream fails
+   */
+  public void exportSessionsAsCsv(
+      UUID userId,
+      LocalDate from,
+      LocalDate to,
+      OutputStream outputStream) {
+    Writer csvWriter = new BufferedWriter(
+        new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    try (Stream<ArchivedSessionRow> archivedRowStream =
+            historyArchiveService.streamSessions(userId, from, to);
+        Stream<SessionExportRow> rowStream =
+            taskSessionRepository.streamSessionsForExport(userId, from, to)) {
+      csvWriter.write(BYTE_ORDER_MARK);
+      csvWriter.write(HEADER_LINE);
+      csvWriter.write(LINE_SEPARATOR);
+      Iterator<ArchivedSessionRow> archivedRowIterator = archivedRowStream.iterator();
+      Iterator<SessionExportRow> rowIterator = rowStream.iterator();
+      ArchivedSessionRow archivedRow = next(archivedRowIterator);
+      SessionExportRow exportRow = next(rowIterator);
+      Map<UUID, String> taskNameMap = null;
+      while (archivedRow != null || exportRow != null) {
+        int order = archivedRow == null ? 1 : exportRow == null ? -1
+            : compare(archivedRow, exportRow);
+        if (order < 0) {
+          if (taskNameMap == null) {
+            taskNameMap = findTaskNames(userId);
+          }
+          writeArchivedRow(csvWriter, archivedRow, taskNameMap);
+          archivedRow = next(archivedRowIterator);
+        } else {
+          writeRow(csvWriter, exportRow);
+          if (order == 0) {
+            archivedRow = next(archivedRowIterator);
+          }
+          exportRow = next(rowIterator);
+        }
+      }
+      csvWriter.flush();
+    } catch (IOException exception) {
+      throw new UncheckedIOException("Failed to write session export", exception);
+    }
+  }
+
+  /**
+   * Orders an archived row against a database row by (start_time, id). A session whose
+   * deletion was rolled back after it had been archived is in both; it compares equal and
+   * is written once, from the database.
+   */
+  private int compare(ArchivedSessionRow archivedRow, SessionExportRow exportRow) {
+    int order = archivedRow.getStartTime().compareTo(exportRow.getStartTime());
+    return order != 0 ? order : HistoryArchiveService.DATABASE_UUID_ORDER.compare(
+        archivedRow.getId(), exportRow.getSessionId());
+  }
+
+  private Map<UUID, String> findTaskNames(UUID userId) {
+    return taskRepository.findSummariesByUserId(userId, Pageable.unpaged()).stream()
+        .collect(Collectors.toMap(TaskSummary::getId, TaskSummary::getTaskName));
+  }
+
+  private void writeArchivedRow(
+      Writer csvWriter,
+      ArchivedSessionRow archivedRow,
+      Map<UUID, String> taskNameMap) throws IOException {
+    String taskName = taskNameMap.get(archivedRow.getTaskId());
+    if (taskName != null) {
+      writeRow(csvWriter, new ArchivedExportRow(archivedRow, taskName));
+    }
+  }
+
+  private <T> T next(Iterator<T> iterator) {
+    return iterator.hasNext() ? iterator.next() : null;
+  }
+
+  private void writeRow(Writer csvWriter, SessionExportRow exportRow) throws IOException {
+    csvWriter.write(exportRow.getSessionId().toString());
+    csvWriter.write(',');
+    csvWriter.write(exportRow.getTaskId().toString());
+    csvWriter.write(',');
+    csvWriter.write(quote(exportRow.getTaskName()));
+    csvWriter.write(',');
+    csvWriter.write(format(exportRow.getStartTime()));
+    csvWriter.write(',');
+    csvWriter.write(format(exportRow.getEndTime()));
+    csvWriter.write(',');
+    if (exportRow.getDurationSeconds() != null) {
+      csvWriter.write(exportRow.getDurationSeconds().toString());
+    }
+    csvWriter.write(LINE_SEPARATOR);
+  }
+
+  private String format(LocalDateTime dateTime) {
+    return dateTime == null ? "" : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(dateTime);
+  }
+
+  /**
+   * Quotes a free-text value as per RFC 4180 if it contains a delimiter, quote or line
+   * break.
+   */
+  private String quote(String value) {
+    if (value.indexOf(',') < 0 && value.indexOf('"') < 0
+        && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+      return value;
+    }
+    return '"' + value.replace("\"", "\"\"") + '"';
+  }
+
+  /**
+   * Export row of an archived session.
+   */
+  private record ArchivedExportRow(ArchivedSessionRow archivedRow, String taskName)
+      implements SessionExportRow {
+
+    @Override
+    public UUID getSessionId() {
+      return archivedRow.getId();
+    }
+
+    @Override
+    public UUID getTaskId() {
+      return archivedRow.getTaskId();
+    }
+
+    @Override
+    public String getTaskName() {
+      return taskName;
+    }
+
+    @Override
+    public LocalDateTime getStartTime() {
+      return archivedRow.getStartTime();
+    }
+
+    @Override
+    public LocalDateTime getEndTime() {
+      return archivedRow.getEndTime();
+    }
+
+    @Override
+    public Long getDurationSeconds() {
+      if (archivedRow.getEndTime() == null) {
+        return null;
+      }
+      // Rounded like the CAST to bigint of the database rows
+      return Math.round(Duration.between(archivedRow.getStartTime(), archivedRow.getEndTime())
+          .toNanos() / 1_000_000_000.0);
+    }
+  }
+}
@@ -0,0 +1,254 @@
+package com.zestark.timewatch.service;
+
+import com.zestark.timewatch.domain.model.TaskStateChangedEvent;
+import com.zestark.timewatch.dto.TaskStateEventResponse;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * Service class that pushes task state changes to subscribed clients as Server-Sent Events.
+ *
+ * <p>Events are delivered only after the publishing transaction commits. Every subscriber
+ * has a bounded buffer that is drained on a send thread of its own, so a slow client never
+ * blocks the request thread that committed the change, nor the delivery to other clients.
+ * A subscriber whose buffer overflows is disconnected; the client reconnects and reloads
+ * its state. Emitters are only ever sent to and completed on the send threads, since both
+ * lock the emitter.
+ *
+ * <p>Send threads are pooled platform threads, created when every pooled thread is busy
+ * and retired after a minute of idleness. A write to a stalled client holds its thread
+ * until the container's write timeout fails it. Once {@code max-send-threads} are busy,
+ * subscribers that need a new thread are disconnected instead.
+ *
+ * <p>The threads deliberately stay platform threads when virtual threads are enabled:
+ * {@link SseEmitter#send} writes to the socket while holding a monitor, which would pin the
+ * carrier thread of a virtual thread for as long as a slow client takes to read.
+ */
+@Service
+public class TaskEventStreamService {
+
+  private static final Logger logger = LoggerFactory.getLogger(TaskEventStreamService.class);
+
+  private final Map<UUID, Set<Subscriber>> subscribersByUserId = new ConcurrentHashMap<>();
+  private final Executor sendExecutor;
+  private final long emitterTimeoutMillis;
+  private final int bufferCapacity;
+
+  /**
+   * Constructor for TaskEventStreamService.
+   *
+   * @param maxSendThreads the maximum number of platform threads that write events
+   * @param emitterTimeoutMillis the time after which a stream is closed for reconnection
+   * @param bufferCapacity the maximum number of undelivered events per subscriber
+   */
+  @Autowired
+  public TaskEventStreamService(
+      @Value("${timewatch.events.max-send-threads:256}") int maxSendThreads,
+      @Value("${timewatch.events.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+      @Value("${timewatch.events.buffer-capacity:64}") int bufferCapacity) {
+    this(
+        new ThreadPoolExecutor(
+            0,
+            maxSendThreads,
+            1,
+            TimeUnit.MINUTES,
+            new SynchronousQueue<>(),
+            Thread.ofPlatform().name("task-event-send-", 0).daemon(true).factory()),
+        emitterTimeoutMillis,
+        bufferCapacity
+    );
+  }
+
+  /**
+   * Constructor for TaskEventStreamService with a given send executor.
+   *
+   * @param sendExecutor the executor that drains subscriber buffers
+   * @param emitterTimeoutMillis the time after which a stream is closed for reconnection
+   * @param bufferCapacity the maximum number of undelivered events per subscriber
+   */
+  TaskEventStreamService(Executor sendExecutor, long emitterTimeoutMillis, int bufferCapacity) {
+    this.sendExecutor = sendExecutor;
+    this.emitterTimeoutMillis = emitterTimeoutMillis;
+    this.bufferCapacity = bufferCapacity;
+  }
+
+  /**
+   * Opens an event stream for a user.
+   *
+   * @param userId the ID of the user whose task changes to receive
+   * @return the emitter backing the stream
+   */
+  public SseEmitter subscribe(UUID userId) {
+    Subscriber subscriber = new Subscriber(new SseEmitter(emitterTimeoutMillis), bufferCapacity);
+    subscribersByUserId.computeIfAbsent(userId, key -> ConcurrentHashMap.newKeySet())
+        .add(subscriber);
+
+    SseEmitter emitter = subscriber.emitter;
+    emitter.onCompletion(() -> close(userId, subscriber));
+    emitter.onTimeout(() -> close(userId, subscriber));
+    emitter.onError(exception -> close(userId, subscriber));
+
+    // Send a comment right away so that the response headers are committed
+    enqueue(userId, subscriber, SseEmitter.event().comment("connected"));
+    return emitter;
+  }
+
+  /**
+   * Pushes a committed task state change to the subscribers of the task owner.
+   *
+   * @param stateChangedEvent the committed change
+   */
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onTaskStateChanged(TaskStateChangedEvent stateChangedEvent) {
+    Set<Subscriber> subscriberSet = subscribersByUserId.get(stateChangedEvent.getUserId());
+    if (subscriberSet == null) {
+      return;
+    }
+    TaskStateEventResponse eventResponse = TaskStateEventResponse.fromEvent(stateChangedEvent);
+    for (Subscriber subscriber : subscriberSet) {
+      enqueue(stateChangedEvent.getUserId(), subscriber, SseEmitter.event()
+          .name(stateChangedEvent.getEventType().name())
+          .data(eventResponse, MediaType.APPLICATION_JSON));
+    }
+  }
+
+  /**
+   * Sends a heartbeat comment to every subscriber so that idle streams are kept open by
+   * proxies and dead connections are detected.
+   */
+  @Scheduled(fixedRateString = "${timewatch.events.heartbeat-interval-ms:15000}")
+  public void sendHeartbeats() {
+    subscribersByUserId.forEach((userId, subscriberSet) -> {
+      for (Subscriber subscriber : subscriberSet) {
+        enqueue(userId, subscriber, SseEmitter.event().comment("heartbeat"));
+      }
+    });
+  }
+
+  /**
+   * Stops the send threads when the application shuts down.
+   */
+  @PreDestroy
+  public void shutdown() {
+    if (sendExecutor instanceof ExecutorService executorService) {
+      executorService.shutdownNow();
+    }
+  }
+
+  /**
+   * Gets the number of open streams of a user.
+   *
+   * @param userId the ID of the user
+   * @return the number of open streams
+   */
+  public int getSubscriberCount(UUID userId) {
+    Set<Subscriber> subscriberSet = subscribersByUserId.get(userId);
+    return subscriberSet == null ? 0 : subscriberSet.size();
+  }
+
+  private void enqueue(UUID userId, Subscriber subscriber, SseEventBuilder event) {
+    if (!subscriber.buffer.offer(event)) {
+      logger.debug("Event buffer of a subscriber of user {} overflowed, disconnecting", userId);
+      // The drain may be blocked writing to this client while holding the emitter's monitor,
+      // so the emitter is completed by the drain rather than by the publishing thread
+      close(userId, subscriber);
+    }
+    if (subscriber.draining.compareAndSet(false, true)) {
+      try {
+        sendExecutor.execute(() -> drain(userId, subscriber));
+      } catch (RejectedExecutionException exception) {
+        // Every send thread is busy. No drain holds the emitter's monitor, so the emitter is
+        // completed here and the client reconnects instead of waiting for the timeout.
+        logger.debug("No send thread for a subscriber of user {}, disconnecting", userId);
+        close(userId, subscriber);
+        finish(subscriber, null);
+        subscriber.draining.set(false);
+      }
+    }
+  }
+
+  private void drain(UUID userId, Subscriber subscriber) {
+    do {
+      SseEventBuilder event;
+      while (!subscriber.closed.get() && (event = subscriber.buffer.poll()) != null) {
+        try {
+          subscriber.emitter.send(event);
+        } catch (IOException | IllegalStateException exception) {
+          close(userId, subscriber);
+          finish(subscriber, exception);
+        }
+      }
+      if (subscriber.closed.get()) {
+        finish(subscriber, null);
+      }
+      subscriber.draining.set(false);
+      // Recheck so that an event enqueued just before the flag was released is not stranded
+    } while (!subscriber.buffer.isEmpty() && subscriber.draining.compareAndSet(false, true));
+  }
+
+  private void finish(Subscriber subscriber, Throwable failure) {
+    subscriber.buffer.clear();
+    if (subscriber.finished.compareAndSet(false, true)) {
+      if (failure == null) {
+        subscriber.emitter.complete();
+      } else {
+        subscriber.emitter.completeWithError(failure);
+      }
+    }
+  }
+
+  private void close(UUID userId, Subscriber subscriber) {
+    subscriber.closed.set(true);
+    unsubscribe(userId, subscriber);
+  }
+
+  private void unsubscribe(UUID userId, Subscriber subscriber) {
+    subscribersByUserId.computeIfPresent(userId, (key, subscriberSet) -> {
+      subscriberSet.remove(subscriber);
+      return subscriberSet.isEmpty() ? null : subscriberSet;
+    });
+  }
+
+  /**
+   * An open stream with its buffer of undelivered events. A closed subscriber receives no
+   * further events, and its emitter is completed once, by the drain or, when no drain could
+   * be started, by the thread that tried to start it.
+   */
+  private static final class Subscriber {
+
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEventBuilder> buffer;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final AtomicBoolean finished = new AtomicBoolean(false);
+
+    private Subscriber(SseEmitter emitter, int bufferCapacity) {
+      this.emitter = emitter;
+      this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+    }
+  }
+}
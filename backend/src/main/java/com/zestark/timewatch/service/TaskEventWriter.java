@@ -0,0 +1,143 @@
+package com.zestark.timewatch.service;
+
+import com.zestark.timewatch.domain.model.TaskEvent;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.query.NativeQuery;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Appends task events to the event log in batches.
+ *
+ * <p>Events appended during a transaction are buffered and written just before it
+ * commits, with one multi-row INSERT per {@value #MAX_ROWS_PER_STATEMENT} events instead of
+ * one INSERT per event. Rows are inserted in the order they were appended, so the events
+ * of each task keep their order. Events are never updated once written, and nothing is
+ * written if the transaction rolls back.
+ *
+ * <p>The INSERT runs through the persistence context, after pending entity changes are
+ * flushed, so it sees the tasks it references and binds timestamps like every other
+ * statement. It declares {@code task_events} as its only query space, so Hibernate does not
+ * evict unrelated second-level cache regions after it. Because it runs while the
+ * transaction commits, outside any repository, its failures are translated here, so a
+ * task deleted concurrently is reported like any other foreign key violation.
+ */
+@Component
+public class TaskEventWriter {
+
+  static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+  private static final String INSERT_PREFIX =
+      "INSERT INTO task_events (id, task_id, event_type, occurred_at) VALUES ";
+
+  private final EntityManager entityManager;
+  private final PersistenceExceptionTranslator exceptionTranslator = new HibernateJpaDialect();
+
+  /**
+   * Constructor for TaskEventWriter.
+   *
+   * @param entityManager the shared entity manager of the current transaction
+   */
+  public TaskEventWriter(EntityManager entityManager) {
+    this.entityManager = entityManager;
+  }
+
+  /**
+   * Appends one event to the current transaction.
+   *
+   * @param taskEvent the event to write when the transaction commits
+   * @throws IllegalStateException if no transaction is active
+   */
+  public void append(TaskEvent taskEvent) {
+    appendAll(List.of(taskEvent));
+  }
+
+  /**
+   * Appends events to the current transaction, in iteration order.
+   *
+   * @param taskEvents the events to write when the transaction commits
+   * @throws IllegalStateException if no transaction is active
+   */
+  public void appendAll(Collection<TaskEvent> taskEvents) {
+    if (taskEvents.isEmpty()) {
+      return;
+    }
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      throw new IllegalStateException("Task events can only be appended inside a transaction");
+    }
+    PendingEvents pendingEvents =
+        (PendingEvents) TransactionSynchronizationManager.getResource(this);
+    if (pendingEvents == null) {
+      pendingEvents = new PendingEvents();
+      TransactionSynchronizationManager.bindResource(this, pendingEvents);
+      TransactionSynchronizationManager.registerSynchronization(pendingEvents);
+    }
+    pendingEvents.eventList.addAll(taskEvents);
+  }
+
+  /**
+   * Writes events with one INSERT per chunk of rows.
+   *
+   * @param taskEventList the events to write, in order
+   * @throws DataAccessException if the INSERT or the preceding flush fails
+   */
+  void write(List<TaskEvent> taskEventList) {
+    try {
+      entityManager.flush();
+      for (int from = 0; from < taskEventList.size(); from += MAX_ROWS_PER_STATEMENT) {
+        insert(taskEventList.subList(
+            from, Math.min(from + MAX_ROWS_PER_STATEMENT, taskEventList.size())));
+      }
+    } catch (RuntimeException exception) {
+      DataAccessException translated = exceptionTranslator.translateExceptionIfPossible(exception);
+      throw translated != null ? translated : exception;
+    }
+  }
+
+  private void insert(List<TaskEvent> chunk) {
+    StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+    for (int row = 0; row < chunk.size(); row++) {
+      int position = row * 4;
+      sql.append(row == 0 ? "" : ", ")
+          .append("(?").append(position + 1)
+          .append(", ?").append(position + 2)
+          .append(", ?").append(position + 3)
+          .append(", ?").append(position + 4).append(')');
+    }
+    NativeQuery<?> query =
+        entityManager.createNativeQuery(sql.toString()).unwrap(NativeQuery.class);
+    query.addSynchronizedQuerySpace("task_events");
+    for (int row = 0; row < chunk.size(); row++) {
+      TaskEvent taskEvent = chunk.get(row);
+      int position = row * 4;
+      query.setParameter(position + 1, UUID.randomUUID());
+      query.setParameter(position + 2, taskEvent.getTask().getId());
+      query.setParameter(position + 3, taskEvent.getEventType().name());
+      query.setParameter(position + 4, taskEvent.getOccurredAt());
+    }
+    query.executeUpdate();
+  }
+
+  private final class PendingEvents implements TransactionSynchronization {
+
+    private final List<TaskEvent> eventList = new ArrayList<>();
+
+    @Override
+    public void beforeCommit(boolean readOnly) {
+      write(eventList);
+    }
+
+    @Override
+    public void afterCompletion(int status) {
+      TransactionSynchronizationManager.unbindResourceIfPossible(TaskEventWriter.this);
+    }
+  }
+}
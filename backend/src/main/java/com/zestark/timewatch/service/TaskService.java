@@ -3,13 +3,20 @@ package com.zestark.timewatch.service;
 import com.zestark.timewatch.domain.model.Task;
 import com.zestark.timewatch.domain.model.TaskEvent;
 import com.zestark.timewatch.domain.model.TaskEventType;
+import com.zestark.timewatch.domain.model.TaskStateChangedEvent;
 import com.zestark.timewatch.domain.model.TaskStatus;
+import com.zestark.timewatch.domain.model.TaskSummary;
 import com.zestark.timewatch.domain.model.User;
 import com.zestark.timewatch.exception.ResourceNotFoundException;
-import com.zestark.timewatch.repository.TaskEventRepository;
 import com.zestark.timewatch.repository.TaskRepository;
-import java.util.List;
+import com.zestark.timewatch.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import java.util.Collection;
 import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,24 +30,46 @@ import org.springframework.transaction.annotation.Transactional;
 public class TaskService {
 
   private final TaskRepository taskRepository;
-  private final TaskEventRepository taskEventRepository;
+  private final TaskEventWriter taskEventWriter;
+  private final UserRepository userRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
-  public TaskService(TaskRepository taskRepository, TaskEventRepository taskEventRepository) {
+  /**
+   * Constructor for TaskService.
+   *
+   * @param taskRepository the task repository
+   * @param taskEventWriter the writer of task events
+   * @param userRepository the user repository
+   * @param eventPublisher the publisher of task state changes
+   */
+  public TaskService(
+      TaskRepository taskRepository,
+      TaskEventWriter taskEventWriter,
+      UserRepository userRepository,
+      ApplicationEventPublisher eventPublisher) {
     this.taskRepository = taskRepository;
-    this.taskEventRepository = taskEventRepository;
+    this.taskEventWriter = taskEventWriter;
+    this.userRepository = userRepository;
+    this.eventPublisher = eventPublisher;
   }
 
   /**
    * Creates a new task for a user.
    *
-   * @param user the user who owns the task
+   * <p>The owner is attached as a reference without loading the user row. An unknown
+   * user is rejected by the foreign key constraint when the insert is flushed.
+   *
+   * @param userId the ID of the user who owns the task
    * @param taskName the name of the task
    * @param description optional description of the task
    * @return the created task
+   * @throws DataIntegrityViolationException if the user does not exist
    */
-  public Task createTask(User user, String taskName, String description) {
-    Task newTask = new Task(user, taskName, description);
-    Task savedTask = taskRepository.save(newTask);
+  @Timed(value = "timewatch.task.create", description = "Time to create a task")
+  public Task createTask(UUID userId, String taskName, String description) {
+    User userReference = userRepository.getReferenceById(userId);
+    Task newTask = new Task(userReference, taskName, description);
+    Task savedTask = taskRepository.saveAndFlush(newTask);
     return savedTask;
   }
 
@@ -58,26 +87,40 @@ public class TaskService {
   }
 
   /**
-   * Gets all tasks for a user.
+   * Gets one page of tasks for a user.
    *
-   * @param user the user whose tasks to retrieve
-   * @return a list of tasks belonging to the user
+   * @param userId the ID of the user whose tasks to retrieve
+   * @param pageable the page and sort order to retrieve
+   * @return a page of task summaries belonging to the user, empty if the user does not exist
    */
   @Transactional(readOnly = true)
-  public List<Task> getTasksByUser(User user) {
-    return taskRepository.findByUser(user);
+  @Timed(
+      value = "timewatch.task.list",
+      description = "Time to list the tasks of a user",
+      extraTags = {"filter", "none"})
+  public Page<TaskSummary> getTasksByUser(UUID userId, Pageable pageable) {
+    return taskRepository.findSummariesByUserId(userId, pageable);
   }
 
   /**
-   * Gets all tasks for a user with a specific status.
+   * Gets one page of tasks for a user with one of the given statuses.
    *
-   * @param user the user whose tasks to retrieve
-   * @param status the status to filter by
-   * @return a list of tasks belonging to the user with the specified status
+   * @param userId the ID of the user whose tasks to retrieve
+   * @param statuses the statuses to filter by
+   * @param pageable the page and sort order to retrieve
+   * @return a page of task summaries belonging to the user with one of the specified
+   *     statuses
    */
   @Transactional(readOnly = true)
-  public List<Task> getTasksByUserAndStatus(User user, TaskStatus status) {
-    return taskRepository.findByUserAndStatus(user, status);
+  @Timed(
+      value = "timewatch.task.list",
+      description = "Time to list the tasks of a user",
+      extraTags = {"filter", "status"})
+  public Page<TaskSummary> getTasksByUserAndStatus(
+      UUID userId,
+      Collection<TaskStatus> statuses,
+      Pageable pageable) {
+    return taskRepository.findSummariesByUserIdAndStatusIn(userId, statuses, pageable);
   }
 
   /**
@@ -99,11 +142,14 @@ public class TaskService {
   /**
    * Changes a task's status and records an event.
    *
+   * <p>A recorded event is pushed to the owner's event streams after the transaction commits.
+   *
    * @param taskId the ID of the task to update
    * @param newStatus the new status for the task
    * @return the updated task
    * @throws ResourceNotFoundException if task is not found
    */
+  @Timed(value = "timewatch.task.status.change", description = "Time to change a task status")
   public Task changeTaskStatus(UUID taskId, TaskStatus newStatus) {
     Task existingTask = findTaskById(taskId);
     TaskStatus oldStatus = existingTask.getStatus();
@@ -112,7 +158,9 @@ public class TaskService {
 
     TaskEventType eventType = mapStatusToEventType(newStatus);
     if (eventType != null) {
-      taskEventRepository.save(new TaskEvent(savedTask, eventType));
+      TaskEvent taskEvent = new TaskEvent(savedTask, eventType);
+      taskEventWriter.append(taskEvent);
+      eventPublisher.publishEvent(TaskStateChangedEvent.statusChanged(savedTask, taskEvent));
     }
 
     return savedTask;
@@ -1,19 +1,33 @@
 package com.zestark.timewatch.service;
 
+import com.zestark.timewatch.domain.model.SessionCursor;
 import com.zestark.timewatch.domain.model.Task;
 import com.zestark.timewatch.domain.model.TaskEvent;
 import com.zestark.timewatch.domain.model.TaskEventType;
 import com.zestark.timewatch.domain.model.TaskSession;
+import com.zestark.timewatch.domain.model.TaskSessionBatchResult;
+import com.zestark.timewatch.domain.model.TaskSessionSummary;
+import com.zestark.timewatch.domain.model.TaskSessionSwitchResult;
+import com.zestark.timewatch.domain.model.TaskStateChangedEvent;
 import com.zestark.timewatch.domain.model.TaskStatus;
 import com.zestark.timewatch.exception.ResourceNotFoundException;
 import com.zestark.timewatch.exception.TaskSessionConflictException;
-import com.zestark.timewatch.repository.TaskEventRepository;
+import com.zestark.timewatch.metrics.TaskSessionMetrics;
 import com.zestark.timewatch.repository.TaskRepository;
 import com.zestark.timewatch.repository.TaskSessionRepository;
+import io.micrometer.core.annotation.Timed;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +37,8 @@ import org.springframework.transaction.annotation.Transactional;
  *
  * <p>Handles task session creation, timer start/stop operations, and session queries.
  * Ensures database-level exclusion control for concurrent session management.
+ * Every started or stopped session is published as a {@link TaskStateChangedEvent},
+ * which subscribers receive only after the transaction commits.
  */
 @Service
 @Transactional
@@ -30,95 +46,238 @@ public class TaskSessionService {
 
   private final TaskSessionRepository taskSessionRepository;
   private final TaskRepository taskRepository;
-  private final TaskEventRepository taskEventRepository;
+  private final TaskEventWriter taskEventWriter;
+  private final ApplicationEventPublisher eventPublisher;
+  private final TaskSessionMetrics sessionMetrics;
+  private final EntityCacheEvictor cacheEvictor;
 
   /**
    * Constructor for TaskSessionService.
    *
    * @param taskSessionRepository the task session repository
    * @param taskRepository the task repository
-   * @param taskEventRepository the task event repository
+   * @param taskEventWriter the writer of task events
+   * @param eventPublisher the publisher of task state changes
+   * @param sessionMetrics the session conflict meters
+   * @param cacheEvictor the evictor of tasks updated by native SQL
    */
   public TaskSessionService(
       TaskSessionRepository taskSessionRepository,
       TaskRepository taskRepository,
-      TaskEventRepository taskEventRepository) {
+      TaskEventWriter taskEventWriter,
+      ApplicationEventPublisher eventPublisher,
+      TaskSessionMetrics sessionMetrics,
+      EntityCacheEvictor cacheEvictor) {
     this.taskSessionRepository = taskSessionRepository;
     this.taskRepository = taskRepository;
-    this.taskEventRepository = taskEventRepository;
+    this.taskEventWriter = taskEventWriter;
+    this.eventPublisher = eventPublisher;
+    this.sessionMetrics = sessionMetrics;
+    this.cacheEvictor = cacheEvictor;
   }
 
   /**
    * Starts a new timer session for a task.
    *
    * <p>Updates task status to RUNNING and creates a START event.
-   * Database-level exclusion control (UNIQUE INDEX WHERE end_time IS NULL)
-   * prevents multiple running sessions for the same task.
+   * The status change, session row and event row are written in one database round trip.
+   * Database-level exclusion control (the ux_task_running key of task_running_locks)
+   * prevents multiple running sessions for the same task. The task is evicted from the
+   * second-level cache because its status is changed by native SQL.
    *
    * @param taskId the ID of the task to start
    * @return the created task session
    * @throws ResourceNotFoundException if task is not found
    * @throws TaskSessionConflictException if a session is already running for this task
    */
+  @Timed(value = "timewatch.session.start", description = "Time to start a timer session")
   public TaskSession startTaskSession(UUID taskId) {
-    Task task = taskRepository.findById(taskId)
-        .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + taskId));
-
-    Optional<TaskSession> runningSessionOptional =
-        taskSessionRepository.findRunningSessionByTask(task);
-    if (runningSessionOptional.isPresent()) {
-      throw new TaskSessionConflictException(
-          "Task already has a running session. Task ID: " + taskId
-      );
-    }
-
     LocalDateTime startTime = LocalDateTime.now();
-    TaskSession newSession = new TaskSession(task, startTime);
 
+    TaskSession startedSession;
     try {
-      task.setStatus(TaskStatus.RUNNING);
-      taskRepository.save(task);
-
-      taskEventRepository.save(new TaskEvent(task, TaskEventType.START, startTime));
-
-      TaskSession savedSession = taskSessionRepository.save(newSession);
-      return savedSession;
+      startedSession = taskSessionRepository.startSession(taskId, startTime)
+          .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + taskId));
     } catch (DataIntegrityViolationException exception) {
+      sessionMetrics.recordConflict(TaskSessionMetrics.START);
       throw new TaskSessionConflictException(
-          "Failed to start session due to concurrent session conflict. Task ID: " + taskId,
+          "Task already has a running session. Task ID: " + taskId,
           exception
       );
     }
+    cacheEvictor.evictTask(taskId);
+    eventPublisher.publishEvent(TaskStateChangedEvent.sessionStarted(startedSession));
+    return startedSession;
   }
 
   /**
    * Stops the currently running session for a task.
    *
    * <p>Updates task status to PENDING and creates a STOP event.
+   * The session end, status change and event row are written in one database round trip.
    *
    * @param taskId the ID of the task to stop
    * @return the ended task session
-   * @throws ResourceNotFoundException if task or running session is not found
+   * @throws ResourceNotFoundException if task is not found
+   * @throws TaskSessionConflictException if no session is running for this task
    */
+  @Timed(value = "timewatch.session.stop", description = "Time to stop a timer session")
   public TaskSession stopTaskSession(UUID taskId) {
-    Task task = taskRepository.findById(taskId)
-        .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + taskId));
+    LocalDateTime endTime = LocalDateTime.now();
 
-    TaskSession runningSession = taskSessionRepository.findRunningSessionByTask(task)
-        .orElseThrow(() -> new TaskSessionConflictException(
-            "No running session found for task. Task ID: " + taskId
-        ));
+    Optional<TaskSession> stoppedSessionOptional =
+        taskSessionRepository.stopSession(taskId, endTime);
+    if (stoppedSessionOptional.isPresent()) {
+      TaskSession stoppedSession = stoppedSessionOptional.get();
+      cacheEvictor.evictTask(taskId);
+      eventPublisher.publishEvent(TaskStateChangedEvent.sessionStopped(stoppedSession));
+      return stoppedSession;
+    }
+
+    if (!taskRepository.existsById(taskId)) {
+      throw new ResourceNotFoundException("Task not found with ID: " + taskId);
+    }
+    sessionMetrics.recordConflict(TaskSessionMetrics.STOP);
+    throw new TaskSessionConflictException(
+        "No running session found for task. Task ID: " + taskId
+    );
+  }
+
+  /**
+   * Switches the task owner's timer to a task.
+   *
+   * <p>Stops every other session the owner has running and starts a session for the task,
+   * in one transaction with two statements. The new session starts at exactly the end time
+   * of the stopped sessions, so there is no gap in which nothing is running.
+   *
+   * @param taskId the ID of the task to switch to
+   * @return the stopped sessions and the started session
+   * @throws ResourceNotFoundException if task is not found
+   * @throws TaskSessionConflictException if a session is already running for this task
+   */
+  @Timed(value = "timewatch.session.switch", description = "Time to switch the timer to a task")
+  public TaskSessionSwitchResult switchTaskSession(UUID taskId) {
+    LocalDateTime switchTime = LocalDateTime.now();
+
+    List<TaskSession> stoppedSessionList =
+        taskSessionRepository.stopOtherSessionsOfTaskOwner(taskId, switchTime);
+    TaskSession startedSession;
+    try {
+      startedSession = taskSessionRepository.startSession(taskId, switchTime)
+          .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + taskId));
+    } catch (DataIntegrityViolationException exception) {
+      sessionMetrics.recordConflict(TaskSessionMetrics.SWITCH);
+      throw new TaskSessionConflictException(
+          "Task already has a running session. Task ID: " + taskId,
+          exception
+      );
+    }
+    List<UUID> switchedTaskIdList = new ArrayList<>();
+    switchedTaskIdList.add(taskId);
+    for (TaskSession stoppedSession : stoppedSessionList) {
+      switchedTaskIdList.add(stoppedSession.getTask().getId());
+    }
+    cacheEvictor.evictTasks(switchedTaskIdList);
+    for (TaskSession stoppedSession : stoppedSessionList) {
+      eventPublisher.publishEvent(TaskStateChangedEvent.sessionStopped(stoppedSession));
+    }
+    eventPublisher.publishEvent(TaskStateChangedEvent.sessionStarted(startedSession));
+    return new TaskSessionSwitchResult(stoppedSessionList, startedSession);
+  }
+
+  /**
+   * Starts timer sessions for many tasks in one transaction.
+   *
+   * <p>Tasks and their running sessions are loaded with one query each, and the new
+   * sessions and START events are written with JDBC batching. Tasks that already have
+   * a running session are reported as CONFLICT and left untouched. If a concurrent
+   * request starts one of the tasks before this batch commits, the whole batch is
+   * rolled back.
+   *
+   * @param taskIds the IDs of the tasks to start
+   * @return the per-task results, in request order without duplicates
+   * @throws TaskSessionConflictException if a concurrent start violates the exclusion control
+   */
+  @Timed(
+      value = "timewatch.session.batch.start",
+      description = "Time to start timer sessions for many tasks")
+  public List<TaskSessionBatchResult> startTaskSessions(Collection<UUID> taskIds) {
+    Set<UUID> uniqueTaskIds = new LinkedHashSet<>(taskIds);
+    Map<UUID, Task> taskMap = findTaskMap(uniqueTaskIds);
+    Map<UUID, TaskSession> runningSessionMap = findRunningSessionMap(uniqueTaskIds);
 
+    LocalDateTime startTime = LocalDateTime.now();
+    List<TaskSessionBatchResult> resultList = new ArrayList<>();
+    List<TaskSession> newSessionList = new ArrayList<>();
+    List<TaskEvent> newEventList = new ArrayList<>();
+    for (UUID taskId : uniqueTaskIds) {
+      Task task = taskMap.get(taskId);
+      if (task == null) {
+        resultList.add(TaskSessionBatchResult.notFound(taskId));
+      } else if (runningSessionMap.containsKey(taskId)) {
+        sessionMetrics.recordConflict(TaskSessionMetrics.BATCH_START);
+        resultList.add(TaskSessionBatchResult.conflict(
+            taskId, "Task already has a running session. Task ID: " + taskId));
+      } else {
+        task.setStatus(TaskStatus.RUNNING);
+        TaskSession newSession = new TaskSession(task, startTime);
+        newSessionList.add(newSession);
+        newEventList.add(new TaskEvent(task, TaskEventType.START, startTime));
+        resultList.add(TaskSessionBatchResult.success(taskId, newSession));
+      }
+    }
+
+    taskSessionRepository.saveAll(newSessionList);
+    taskEventWriter.appendAll(newEventList);
+    flushBatch(TaskSessionMetrics.BATCH_START);
+    for (TaskSession newSession : newSessionList) {
+      eventPublisher.publishEvent(TaskStateChangedEvent.sessionStarted(newSession));
+    }
+    return resultList;
+  }
+
+  /**
+   * Stops the running sessions of many tasks in one transaction.
+   *
+   * <p>The sessions are ended, their tasks set to PENDING, the STOP events recorded and
+   * the sessions added to the daily usage rollup in one statement, so a session stopped
+   * concurrently by another request is not stopped or counted again. Tasks the statement
+   * did not stop are reported as CONFLICT, or NOT_FOUND if they do not exist.
+   *
+   * @param taskIds the IDs of the tasks to stop
+   * @return the per-task results, in request order without duplicates
+   */
+  @Timed(
+      value = "timewatch.session.batch.stop",
+      description = "Time to stop timer sessions for many tasks")
+  public List<TaskSessionBatchResult> stopTaskSessions(Collection<UUID> taskIds) {
+    Set<UUID> uniqueTaskIds = new LinkedHashSet<>(taskIds);
     LocalDateTime endTime = LocalDateTime.now();
-    runningSession.endSession(endTime);
+    Map<UUID, TaskSession> stoppedSessionMap =
+        taskSessionRepository.stopSessions(uniqueTaskIds, endTime).stream()
+            .collect(Collectors.toMap(session -> session.getTask().getId(), Function.identity()));
 
-    task.setStatus(TaskStatus.PENDING);
-    taskRepository.save(task);
+    Set<UUID> idleTaskIds = new LinkedHashSet<>(uniqueTaskIds);
+    idleTaskIds.removeAll(stoppedSessionMap.keySet());
+    Map<UUID, Task> idleTaskMap = idleTaskIds.isEmpty() ? Map.of() : findTaskMap(idleTaskIds);
 
-    taskEventRepository.save(new TaskEvent(task, TaskEventType.STOP, endTime));
+    List<TaskSessionBatchResult> resultList = new ArrayList<>();
+    for (UUID taskId : uniqueTaskIds) {
+      TaskSession stoppedSession = stoppedSessionMap.get(taskId);
+      if (stoppedSession != null) {
+        eventPublisher.publishEvent(TaskStateChangedEvent.sessionStopped(stoppedSession));
+        resultList.add(TaskSessionBatchResult.success(taskId, stoppedSession));
+      } else if (idleTaskMap.containsKey(taskId)) {
+        sessionMetrics.recordConflict(TaskSessionMetrics.BATCH_STOP);
+        resultList.add(TaskSessionBatchResult.conflict(
+            taskId, "No running session found for task. Task ID: " + taskId));
+      } else {
+        resultList.add(TaskSessionBatchResult.notFound(taskId));
+      }
+    }
 
-    TaskSession savedSession = taskSessionRepository.save(runningSession);
-    return savedSession;
+    cacheEvictor.evictTasks(stoppedSessionMap.keySet());
+    return resultList;
   }
 
   /**
@@ -137,33 +296,51 @@ public class TaskSessionService {
   }
 
   /**
-   * Gets all sessions for a task.
+   * Gets all currently running sessions of a user with a single query.
+   *
+   * @param userId the ID of the user
+   * @return a list of running sessions, empty if the user has none or does not exist
+   */
+  @Transactional(readOnly = true)
+  @Timed(
+      value = "timewatch.session.running.list",
+      description = "Time to list the running sessions of a user")
+  public List<TaskSessionSummary> getRunningSessionsForUser(UUID userId) {
+    return taskSessionRepository.findRunningSessionsByUserId(userId);
+  }
+
+  /**
+   * Gets one page of a task's sessions, newest first.
    *
    * @param taskId the ID of the task
-   * @return a list of all sessions for the task
+   * @param cursor the position after which the page starts, or null for the first page
+   * @param limit the maximum number of sessions to return
+   * @return a list of at most {@code limit} sessions
    * @throws ResourceNotFoundException if task is not found
    */
   @Transactional(readOnly = true)
-  public List<TaskSession> getAllSessionsForTask(UUID taskId) {
-    Task task = taskRepository.findById(taskId)
-        .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + taskId));
-
-    return taskSessionRepository.findByTask(task);
+  public List<TaskSessionSummary> getSessionsForTask(
+      UUID taskId,
+      SessionCursor cursor,
+      int limit) {
+    return findSessionPage(taskId, false, cursor, limit);
   }
 
   /**
-   * Gets all completed sessions for a task.
+   * Gets one page of a task's completed sessions, newest first.
    *
    * @param taskId the ID of the task
-   * @return a list of completed sessions for the task
+   * @param cursor the position after which the page starts, or null for the first page
+   * @param limit the maximum number of sessions to return
+   * @return a list of at most {@code limit} completed sessions
    * @throws ResourceNotFoundException if task is not found
    */
   @Transactional(readOnly = true)
-  public List<TaskSession> getCompletedSessionsForTask(UUID taskId) {
-    Task task = taskRepository.findById(taskId)
-        .orElseThrow(() -> new ResourceNotFoundException("Task not found with ID: " + taskId));
-
-    return taskSessionRepository.findCompletedSessionsByTask(task);
+  public List<TaskSessionSummary> getCompletedSessionsForTask(
+      UUID taskId,
+      SessionCursor cursor,
+      int limit) {
+    return findSessionPage(taskId, true, cursor, limit);
   }
 
   /**
@@ -180,4 +357,46 @@ public class TaskSessionService {
             "Task session not found with ID: " + sessionId
         ));
   }
+
+  private List<TaskSessionSummary> findSessionPage(
+      UUID taskId,
+      boolean completedOnly,
+      SessionCursor cursor,
+      int limit) {
+    if (!taskRepository.existsById(taskId)) {
+      throw new ResourceNotFoundException("Task not found with ID: " + taskId);
+    }
+    if (cursor == null) {
+      return taskSessionRepository.findFirstSessionPage(taskId, completedOnly, limit);
+    }
+    return taskSessionRepository.findSessionPageAfter(
+        taskId,
+        completedOnly,
+        cursor.getStartTime(),
+        cursor.getSessionId(),
+        limit
+    );
+  }
+
+  private Map<UUID, Task> findTaskMap(Collection<UUID> taskIds) {
+    return taskRepository.findAllById(taskIds).stream()
+        .collect(Collectors.toMap(Task::getId, Function.identity()));
+  }
+
+  private Map<UUID, TaskSession> findRunningSessionMap(Collection<UUID> taskIds) {
+    return taskSessionRepository.findRunningSessionsByTaskIds(taskIds).stream()
+        .collect(Collectors.toMap(session -> session.getTask().getId(), Function.identity()));
+  }
+
+  private void flushBatch(String operation) {
+    try {
+      taskSessionRepository.flush();
+    } catch (DataIntegrityViolationException exception) {
+      sessionMetrics.recordConstraintRace(operation);
+      throw new TaskSessionConflictException(
+          "Batch rolled back due to concurrent session conflict",
+          exception
+      );
+    }
+  }
 }
@@ -0,0 +1,72 @@
+package com.zestark.timewatch.service;
+
+import com.zestark.timewatch.repository.TaskSessionRepository;
+import java.time.LocalDate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service class for maintaining the daily usage rollup.
+ *
+ * <p>Session stops add to the rollup incrementally. This service rebuilds it from
+ * task_sessions to repair drift, for example after sessions were edited directly.
+ */
+@Service
+@Transactional
+public class UsageRollupService {
+
+  private static final Logger logger = LoggerFactory.getLogger(UsageRollupService.class);
+
+  private final TaskSessionRepository taskSessionRepository;
+  private final int repairDays;
+
+  /**
+   * Constructor for UsageRollupService.
+   *
+   * @param taskSessionRepository the task session repository
+   * @param repairDays the number of past days the scheduled repair rebuilds
+   */
+  public UsageRollupService(
+      TaskSessionRepository taskSessionRepository,
+      @Value("${timewatch.usage-rollup.repair-days:7}") int repairDays) {
+    this.taskSessionRepository = taskSessionRepository;
+    this.repairDays = repairDays;
+  }
+
+  /**
+   * Rebuilds the daily usage rollup of a date range from completed sessions.
+   *
+   * <p>The rollup is locked for the duration of the rebuild, so session stops wait for
+   * it to commit. The rollup outlives the sessions purged by {@link DataRetentionService},
+   * so a range reaching back before the retention cutoff would lose the usage of the purged
+   * days.
+   *
+   * @param from the first day of the range (inclusive)
+   * @param to the last day of the range (inclusive)
+   * @return the number of rollup rows written
+   * @throws IllegalArgumentException if from is after to
+   */
+  public int rebuildDailyUsage(LocalDate from, LocalDate to) {
+    if (from.isAfter(to)) {
+      throw new IllegalArgumentException(
+          "Rebuild start date must not be after end date: " + from + " > " + to);
+    }
+    taskSessionRepository.lockDailyUsage();
+    taskSessionRepository.deleteDailyUsage(from, to);
+    return taskSessionRepository.insertDailyUsageFromSessions(from, to);
+  }
+
+  /**
+   * Rebuilds the daily usage rollup of the recent past on a schedule.
+   */
+  @Scheduled(cron = "${timewatch.usage-rollup.repair-cron:0 30 3 * * *}")
+  public void repairRecentDailyUsage() {
+    LocalDate today = LocalDate.now();
+    int rowCount = rebuildDailyUsage(today.minusDays(repairDays), today);
+    logger.info("Rebuilt daily usage rollup for the last {} days: {} rows", repairDays, rowCount);
+  }
+}
@@ -4,6 +4,7 @@ import com.zestark.timewatch.domain.model.User;
 import com.zestark.timewatch.exception.DuplicateResourceException;
 import com.zestark.timewatch.exception.ResourceNotFoundException;
 import com.zestark.timewatch.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.stereotype.Service;
@@ -19,9 +20,17 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
   private final UserRepository userRepository;
+  private final EntityCacheEvictor cacheEvictor;
 
-  public UserService(UserRepository userRepository) {
+  /**
+   * Constructor for UserService.
+   *
+   * @param userRepository the user repository
+   * @param cacheEvictor the evictor of tasks deleted by the database cascade
+   */
+  public UserService(UserRepository userRepository, EntityCacheEvictor cacheEvictor) {
     this.userRepository = userRepository;
+    this.cacheEvictor = cacheEvictor;
   }
 
   /**
@@ -33,6 +42,7 @@ public class UserService {
    * @return the created user
    * @throws DuplicateResourceException if username or email already exists
    */
+  @Timed(value = "timewatch.user.create", description = "Time to create a user")
   public User createUser(String username, String email, String passwordHash) {
     if (userRepository.existsByUsername(username)) {
       throw new DuplicateResourceException("Username already exists: " + username);
@@ -91,6 +101,7 @@ public class UserService {
    * @return a list of all users
    */
   @Transactional(readOnly = true)
+  @Timed(value = "timewatch.user.list", description = "Time to list all users")
   public List<User> getAllUsers() {
     return userRepository.findAll();
   }
@@ -116,6 +127,8 @@ public class UserService {
   /**
    * Deletes a user.
    *
+   * <p>The user's tasks are deleted by the database cascade, so cached tasks are evicted.
+   *
    * @param userId the ID of the user to delete
    * @throws ResourceNotFoundException if user is not found
    */
@@ -124,5 +137,6 @@ public class UserService {
       throw new ResourceNotFoundException("User not found with ID: " + userId);
     }
     userRepository.deleteById(userId);
+    cacheEvictor.evictAllTasks();
   }
 }
@@ -0,0 +1,19 @@
+-- task_sessionsにタスク所有ユーザーIDを非正規化
+-- ユーザー単位の実行中セッション検索を、タスク数に依存しない1回のインデックス検索にする
+ALTER TABLE task_sessions ADD COLUMN user_id UUID;
+
+UPDATE task_sessions ts
+SET user_id = t.user_id
+FROM tasks t
+WHERE t.id = ts.task_id;
+
+ALTER TABLE task_sessions
+    ALTER COLUMN user_id SET NOT NULL,
+    ADD CONSTRAINT fk_task_sessions_user_id FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE;
+
+-- ユーザー単位の実行中セッション検索用（部分インデックス）
+CREATE INDEX idx_task_sessions_user_running ON task_sessions (user_id) WHERE end_time IS NULL;
+
+-- コメント追加（ドキュメント化）
+COMMENT ON COLUMN task_sessions.user_id IS 'タスク所有ユーザーID（tasks.user_idの非正規化）';
+COMMENT ON INDEX idx_task_sessions_user_running IS 'ユーザー単位の実行中セッション検索用';
@@ -0,0 +1,9 @@
+-- セッション履歴のキーセットページネーション用複合インデックス
+-- (task_id, start_time, id) の順で走査し、深いページでも OFFSET のような読み飛ばしが発生しない
+CREATE INDEX idx_task_sessions_task_start_id ON task_sessions (task_id, start_time, id);
+
+-- 複合インデックスの先頭列で代替できるため削除
+DROP INDEX idx_task_sessions_task_id;
+
+-- コメント追加（ドキュメント化）
+COMMENT ON INDEX idx_task_sessions_task_start_id IS 'セッション履歴のキーセットページネーション用';
@@ -0,0 +1,9 @@
+-- タスク一覧（ユーザー単位・状態フィルタ・更新日時ソート）用複合インデックス
+CREATE INDEX idx_tasks_user_status_updated ON tasks (user_id, status, updated_at DESC);
+
+-- 複合インデックスで代替できるため削除
+DROP INDEX idx_tasks_user_id;
+DROP INDEX idx_tasks_status;
+
+-- コメント追加（ドキュメント化）
+COMMENT ON INDEX idx_tasks_user_status_updated IS 'タスク一覧のページング・状態フィルタ・ソート用';
@@ -0,0 +1,5 @@
+-- 利用時間レポート（ユーザー単位・期間指定）用複合インデックス
+CREATE INDEX idx_task_sessions_user_start ON task_sessions (user_id, start_time);
+
+-- コメント追加（ドキュメント化）
+COMMENT ON INDEX idx_task_sessions_user_start IS 'ユーザー単位の利用時間集計用';
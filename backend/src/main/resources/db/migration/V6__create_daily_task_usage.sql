@@ -0,0 +1,31 @@
+-- 日次利用時間ロールアップテーブル
+-- 完了済みセッションの時間を日単位（0時で分割）に事前集計し、レポートの計算量を日数×タスク数に抑える
+CREATE TABLE daily_task_usage (
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    task_id UUID NOT NULL REFERENCES tasks(id) ON DELETE CASCADE,
+    day DATE NOT NULL,
+    seconds BIGINT NOT NULL,
+    CONSTRAINT pk_daily_task_usage PRIMARY KEY (user_id, day, task_id)
+);
+
+-- タスク削除時のカスケード用
+CREATE INDEX idx_daily_task_usage_task_id ON daily_task_usage (task_id);
+
+-- 直近期間のロールアップ再構築用（終了時刻で完了済みセッションを絞り込む）
+CREATE INDEX idx_task_sessions_end_time ON task_sessions (end_time) WHERE end_time IS NOT NULL;
+
+-- 既存の完了済みセッションから初期データを作成
+INSERT INTO daily_task_usage (user_id, task_id, day, seconds)
+SELECT ts.user_id, ts.task_id, CAST(d.day AS DATE),
+       SUM(CAST(EXTRACT(EPOCH FROM LEAST(ts.end_time, d.day + INTERVAL '1 day') - GREATEST(ts.start_time, d.day)) AS BIGINT))
+FROM task_sessions ts
+CROSS JOIN LATERAL generate_series(
+    date_trunc('day', ts.start_time), ts.end_time - INTERVAL '1 microsecond', INTERVAL '1 day') AS d(day)
+WHERE ts.end_time IS NOT NULL
+GROUP BY ts.user_id, ts.task_id, d.day;
+
+-- コメント追加（ドキュメント化）
+COMMENT ON TABLE daily_task_usage IS 'タスク別日次利用時間（完了済みセッションのロールアップ）';
+COMMENT ON COLUMN daily_task_usage.day IS '集計日（セッションは0時で分割して各日に計上）';
+COMMENT ON COLUMN daily_task_usage.seconds IS '当日の合計利用時間（秒）';
+COMMENT ON INDEX idx_task_sessions_end_time IS '日次ロールアップ再構築用';
@@ -0,0 +1,181 @@
+-- task_sessions・task_eventsを月単位のレンジパーティションテーブルへ移行
+-- 古い月のパーティションは DETACH / DROP で切り離せるため、インデックスの肥大化と削除コストを月単位に抑えられる
+
+-- 月次パーティション作成関数
+-- パーティション名は <親テーブル>_yYYYYmMM、範囲外の行は <親テーブル>_default に格納される
+-- デフォルトパーティションに該当月の行がある場合は、新パーティションへ移してからアタッチする
+CREATE FUNCTION create_monthly_partition(parent_table TEXT, partition_column TEXT, month_start DATE)
+RETURNS BOOLEAN
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    range_start DATE := date_trunc('month', month_start);
+    range_end DATE := date_trunc('month', month_start) + INTERVAL '1 month';
+    partition_table TEXT := format('%s_y%sm%s', parent_table, to_char(range_start, 'YYYY'), to_char(range_start, 'MM'));
+    default_table TEXT := parent_table || '_default';
+BEGIN
+    -- 複数インスタンスからの同時実行を直列化
+    PERFORM pg_advisory_xact_lock(hashtext('create_monthly_partition'));
+    IF to_regclass(partition_table) IS NOT NULL THEN
+        RETURN FALSE;
+    END IF;
+
+    EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+        partition_table, parent_table);
+    IF to_regclass(default_table) IS NOT NULL THEN
+        EXECUTE format('WITH moved AS (DELETE FROM %I WHERE %I >= %L AND %I < %L RETURNING *) '
+            || 'INSERT INTO %I SELECT * FROM moved',
+            default_table, partition_column, range_start, partition_column, range_end, partition_table);
+    END IF;
+    EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+        parent_table, partition_table, range_start, range_end);
+    RETURN TRUE;
+END;
+$$;
+
+-- task_sessions・task_eventsの月次パーティションを開始月から終了月まで作成（作成済みの月は対象外）
+CREATE FUNCTION create_monthly_partitions(from_month DATE, to_month DATE)
+RETURNS INTEGER
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    month_start DATE;
+    created_count INTEGER := 0;
+BEGIN
+    FOR month_start IN
+        SELECT generate_series(date_trunc('month', from_month), to_month, INTERVAL '1 month')
+    LOOP
+        IF create_monthly_partition('task_sessions', 'start_time', month_start) THEN
+            created_count := created_count + 1;
+        END IF;
+        IF create_monthly_partition('task_events', 'occurred_at', month_start) THEN
+            created_count := created_count + 1;
+        END IF;
+    END LOOP;
+    RETURN created_count;
+END;
+$$;
+
+-- 既存テーブルを退避
+ALTER TABLE task_sessions RENAME TO task_sessions_unpartitioned;
+ALTER TABLE task_events RENAME TO task_events_unpartitioned;
+
+-- Task Sessionsテーブル（start_timeで月単位にパーティション分割）
+-- パーティションテーブルの一意制約はパーティションキーを含む必要があるため、主キーは (id, start_time)
+CREATE TABLE task_sessions (
+    id UUID NOT NULL DEFAULT uuid_generate_v4(),
+    task_id UUID NOT NULL,
+    user_id UUID NOT NULL,
+    start_time TIMESTAMP NOT NULL,
+    end_time TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT chk_time_order CHECK (end_time IS NULL OR start_time < end_time)
+) PARTITION BY RANGE (start_time);
+
+CREATE TABLE task_sessions_default PARTITION OF task_sessions DEFAULT;
+
+-- Task Eventsテーブル（occurred_atで月単位にパーティション分割）
+CREATE TABLE task_events (
+    id UUID NOT NULL DEFAULT uuid_generate_v4(),
+    task_id UUID NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    occurred_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    CONSTRAINT chk_event_type CHECK (event_type IN ('START', 'STOP', 'PAUSE', 'RESUME', 'COMPLETE', 'CANCEL'))
+) PARTITION BY RANGE (occurred_at);
+
+CREATE TABLE task_events_default PARTITION OF task_events DEFAULT;
+
+-- 既存データの最古月から3ヶ月先までのパーティションを作成
+SELECT create_monthly_partitions(
+    CAST(LEAST(
+        (SELECT MIN(start_time) FROM task_sessions_unpartitioned),
+        (SELECT MIN(occurred_at) FROM task_events_unpartitioned),
+        LOCALTIMESTAMP) AS DATE),
+    CAST(LOCALTIMESTAMP + INTERVAL '3 months' AS DATE));
+
+-- データ移行（インデックス作成前に一括投入）
+INSERT INTO task_sessions (id, task_id, user_id, start_time, end_time, created_at)
+SELECT id, task_id, user_id, start_time, end_time, created_at FROM task_sessions_unpartitioned;
+
+INSERT INTO task_events (id, task_id, event_type, occurred_at)
+SELECT id, task_id, event_type, occurred_at FROM task_events_unpartitioned;
+
+DROP TABLE task_sessions_unpartitioned;
+DROP TABLE task_events_unpartitioned;
+
+-- 実行中セッションの排他制約テーブル
+-- パーティションテーブルには task_id 単独の部分一意インデックス（旧 ux_task_running）を作成できないため、
+-- 実行中セッション1件につき1行をタスクIDを主キーとして保持し、同じ制約名 ux_task_running で排他する
+CREATE TABLE task_running_locks (
+    task_id UUID NOT NULL REFERENCES tasks(id) ON DELETE CASCADE,
+    session_id UUID NOT NULL,
+    start_time TIMESTAMP NOT NULL,
+    CONSTRAINT ux_task_running PRIMARY KEY (task_id)
+);
+
+INSERT INTO task_running_locks (task_id, session_id, start_time)
+SELECT task_id, id, start_time FROM task_sessions WHERE end_time IS NULL;
+
+-- 制約・インデックス（親テーブルに作成し、全パーティションへ伝播）
+ALTER TABLE task_sessions
+    ADD CONSTRAINT pk_task_sessions PRIMARY KEY (id, start_time),
+    ADD CONSTRAINT fk_task_sessions_task_id FOREIGN KEY (task_id) REFERENCES tasks(id) ON DELETE CASCADE,
+    ADD CONSTRAINT fk_task_sessions_user_id FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE;
+
+ALTER TABLE task_events
+    ADD CONSTRAINT pk_task_events PRIMARY KEY (id, occurred_at),
+    ADD CONSTRAINT fk_task_events_task_id FOREIGN KEY (task_id) REFERENCES tasks(id) ON DELETE CASCADE;
+
+CREATE INDEX idx_task_sessions_task_start_id ON task_sessions (task_id, start_time, id);
+CREATE INDEX idx_task_sessions_start_time ON task_sessions (start_time);
+CREATE INDEX idx_task_sessions_user_start ON task_sessions (user_id, start_time);
+CREATE INDEX idx_task_sessions_user_running ON task_sessions (user_id) WHERE end_time IS NULL;
+CREATE INDEX idx_task_sessions_task_running ON task_sessions (task_id) WHERE end_time IS NULL;
+CREATE INDEX idx_task_sessions_end_time ON task_sessions (end_time) WHERE end_time IS NOT NULL;
+CREATE INDEX idx_task_events_task_id ON task_events (task_id);
+CREATE INDEX idx_task_events_occurred_at ON task_events (occurred_at DESC);
+
+-- 実行中セッションの開始・終了に合わせて排他制約テーブルを更新
+-- 2件目の実行中セッションは ux_task_running の一意制約違反となり、文全体がロールバックされる
+CREATE FUNCTION track_running_task_session()
+RETURNS TRIGGER
+LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF NEW.end_time IS NULL THEN
+        INSERT INTO task_running_locks (task_id, session_id, start_time)
+        VALUES (NEW.task_id, NEW.id, NEW.start_time);
+    ELSE
+        DELETE FROM task_running_locks WHERE task_id = OLD.task_id AND session_id = OLD.id;
+    END IF;
+    RETURN NULL;
+END;
+$$;
+
+CREATE TRIGGER trg_task_sessions_running_insert
+    AFTER INSERT ON task_sessions
+    FOR EACH ROW WHEN (NEW.end_time IS NULL)
+    EXECUTE FUNCTION track_running_task_session();
+
+CREATE TRIGGER trg_task_sessions_running_update
+    AFTER UPDATE OF end_time ON task_sessions
+    FOR EACH ROW WHEN ((OLD.end_time IS NULL) <> (NEW.end_time IS NULL))
+    EXECUTE FUNCTION track_running_task_session();
+
+-- コメント追加（ドキュメント化）
+COMMENT ON TABLE task_sessions IS 'タスクセッション（計測記録）テーブル（start_timeで月単位にパーティション分割）';
+COMMENT ON TABLE task_events IS 'タスクイベント履歴テーブル（occurred_atで月単位にパーティション分割）';
+COMMENT ON TABLE task_sessions_default IS 'パーティション未作成の月のセッション（通常は空）';
+COMMENT ON TABLE task_events_default IS 'パーティション未作成の月のイベント（通常は空）';
+COMMENT ON TABLE task_running_locks IS '実行中セッションの排他制約（1タスクにつき1行、トリガーで更新）';
+COMMENT ON COLUMN task_sessions.start_time IS 'セッション開始時刻（パーティションキー）';
+COMMENT ON COLUMN task_sessions.end_time IS 'セッション終了時刻（NULL=実行中）';
+COMMENT ON COLUMN task_sessions.user_id IS 'タスク所有ユーザーID（tasks.user_idの非正規化）';
+COMMENT ON CONSTRAINT chk_time_order ON task_sessions IS '終了時刻は開始時刻より後でなければならない';
+COMMENT ON CONSTRAINT ux_task_running ON task_running_locks IS '1タスクにつき実行中セッションは1つのみ（排他制約）';
+COMMENT ON INDEX idx_task_sessions_task_start_id IS 'セッション履歴のキーセットページネーション用';
+COMMENT ON INDEX idx_task_sessions_user_start IS 'ユーザー単位の利用時間集計用';
+COMMENT ON INDEX idx_task_sessions_user_running IS 'ユーザー単位の実行中セッション検索用';
+COMMENT ON INDEX idx_task_sessions_task_running IS 'タスク単位の実行中セッション検索用（セッション停止）';
+COMMENT ON INDEX idx_task_sessions_end_time IS '日次ロールアップ再構築用';
+COMMENT ON FUNCTION create_monthly_partitions(DATE, DATE) IS 'task_sessions・task_eventsの月次パーティションを事前作成';
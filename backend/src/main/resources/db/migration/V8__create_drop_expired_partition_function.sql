@@ -0,0 +1,38 @@
+-- 保持期間を過ぎた月次パーティションの削除関数
+-- 1回の呼び出しで最も古い期限切れパーティションを1つだけ DETACH / DROP し、削除したパーティション名を返す（対象なしは NULL）
+-- DETACH / DROP は親テーブルの ACCESS EXCLUSIVE ロックを取るため、lock_wait（ミリ秒）を超えて待たずにエラーとする
+-- keep_condition に該当する行（例: 実行中セッション）を含むパーティションは削除しない
+CREATE FUNCTION drop_expired_partition(parent_table TEXT, cutoff TIMESTAMP, keep_condition TEXT, lock_wait TEXT)
+RETURNS TEXT
+LANGUAGE plpgsql
+AS $$
+DECLARE
+    partition_table TEXT;
+    has_kept_rows BOOLEAN;
+BEGIN
+    PERFORM set_config('lock_timeout', lock_wait, true);
+    -- パーティション作成・他インスタンスからの同時実行と直列化
+    PERFORM pg_advisory_xact_lock(hashtext('create_monthly_partition'));
+    FOR partition_table IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = parent_table::regclass
+          AND c.relname ~ ('^' || parent_table || '_y[0-9]{4}m[0-9]{2}$')
+          AND to_date(right(c.relname, 8), '"y"YYYY"m"MM') + INTERVAL '1 month' <= cutoff
+        ORDER BY c.relname
+    LOOP
+        IF keep_condition IS NOT NULL THEN
+            EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I WHERE %s)', partition_table, keep_condition)
+                INTO has_kept_rows;
+            CONTINUE WHEN has_kept_rows;
+        END IF;
+        EXECUTE format('ALTER TABLE %I DETACH PARTITION %I', parent_table, partition_table);
+        EXECUTE format('DROP TABLE %I', partition_table);
+        RETURN partition_table;
+    END LOOP;
+    RETURN NULL;
+END;
+$$;
+
+COMMENT ON FUNCTION drop_expired_partition(TEXT, TIMESTAMP, TEXT, TEXT) IS '保持期間を過ぎた月次パーティションを1つ削除（データ保持ジョブ用）';
@@ -0,0 +1,6 @@
+-- 長時間実行セッションの自動停止用部分インデックス
+-- 実行中セッションのみを開始時刻順に保持し、最大時間を超えたセッションを範囲検索する
+CREATE INDEX idx_task_sessions_running_start ON task_sessions (start_time) WHERE end_time IS NULL;
+
+-- コメント追加（ドキュメント化）
+COMMENT ON INDEX idx_task_sessions_running_start IS '長時間実行セッションの自動停止用';
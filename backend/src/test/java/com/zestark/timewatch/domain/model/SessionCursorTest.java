@@ -0,0 +1,40 @@
+package com.zestark.timewatch.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for SessionCursor domain model.
+ */
+@DisplayName("SessionCursorドメインモデルテスト")
+class SessionCursorTest {
+
+  @Test
+  @DisplayName("decode_shouldRestoreCursor_whenTokenWasEncoded")
+  void decode_shouldRestoreCursor_whenTokenWasEncoded() {
+    // Arrange
+    LocalDateTime startTime = LocalDateTime.of(2026, 1, 2, 3, 4, 5, 123456000);
+    UUID sessionId = UUID.randomUUID();
+    String token = new SessionCursor(startTime, sessionId).encode();
+
+    // Act
+    SessionCursor decodedCursor = SessionCursor.decode(token);
+
+    // Assert
+    assertEquals(startTime, decodedCursor.getStartTime());
+    assertEquals(sessionId, decodedCursor.getSessionId());
+  }
+
+  @Test
+  @DisplayName("decode_shouldThrowException_whenTokenIsMalformed")
+  void decode_shouldThrowException_whenTokenIsMalformed() {
+    // Act & Assert
+    assertThrows(IllegalArgumentException.class, () -> SessionCursor.decode("not-a-cursor"));
+    assertThrows(IllegalArgumentException.class, () -> SessionCursor.decode("%%%"));
+  }
+}
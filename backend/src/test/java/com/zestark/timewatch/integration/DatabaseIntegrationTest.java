@@ -0,0 +1,107 @@
+package com.zestark.timewatch.integration;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Base class of integration tests that run the application against PostgreSQL.
+ *
+ * <p>The schema is created by the Flyway migrations, so partitions, triggers and native
+ * queries behave as in production. One Testcontainers PostgreSQL instance is shared by all
+ * integration tests of a run. Setting the system property {@code integration.jdbc.url}
+ * (with {@code integration.jdbc.username} and {@code integration.jdbc.password}) points
+ * the tests at an existing, empty database instead. The tests are skipped when neither
+ * Docker nor such a database is available.
+ *
+ * <p>The embedded server is started as in production, because Tomcat registers the
+ * {@code classpath:} URL handler that resolves the second-level cache configuration.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public abstract class DatabaseIntegrationTest {
+
+  private static final String POSTGRES_IMAGE = "postgres:15-alpine";
+  private static final String EXTERNAL_URL = System.getProperty("integration.jdbc.url");
+
+  private static PostgreSQLContainer<?> container;
+
+  @Autowired
+  protected JdbcTemplate jdbcTemplate;
+
+  @BeforeAll
+  static void assumeDatabaseAvailable() {
+    assumeTrue(EXTERNAL_URL != null || DockerClientFactory.instance().isDockerAvailable(),
+        "Docker or integration.jdbc.url is required");
+  }
+
+  @DynamicPropertySource
+  static void databaseProperties(DynamicPropertyRegistry registry) {
+    if (EXTERNAL_URL != null) {
+      registry.add("spring.datasource.url", () -> EXTERNAL_URL);
+      registry.add("spring.datasource.username",
+          () -> System.getProperty("integration.jdbc.username", "postgres"));
+      registry.add("spring.datasource.password",
+          () -> System.getProperty("integration.jdbc.password", ""));
+    } else {
+      PostgreSQLContainer<?> sharedContainer = startContainer();
+      registry.add("spring.datasource.url", sharedContainer::getJdbcUrl);
+      registry.add("spring.datasource.username", sharedContainer::getUsername);
+      registry.add("spring.datasource.password", sharedContainer::getPassword);
+    }
+    registry.add("logging.level.com.zestark.timewatch", () -> "WARN");
+  }
+
+  private static synchronized PostgreSQLContainer<?> startContainer() {
+    if (container == null) {
+      container = new PostgreSQLContainer<>(POSTGRES_IMAGE);
+      container.start();
+    }
+    return container;
+  }
+
+  /**
+   * Removes all users, with their tasks and sessions, and inserts one user with tasks.
+   *
+   * @param taskCount the number of tasks to insert for the user
+   * @return the IDs of the inserted tasks
+   */
+  protected List<UUID> reseedTasks(int taskCount) {
+    jdbcTemplate.execute("TRUNCATE users CASCADE");
+    UUID userId = UUID.randomUUID();
+    jdbcTemplate.update(
+        "INSERT INTO users (id, username, email, password_hash) VALUES (?, ?, ?, 'x')",
+        userId, "integration", "integration@example.com");
+    List<UUID> taskIdList = new ArrayList<>();
+    List<Object[]> taskRowList = new ArrayList<>();
+    for (int i = 0; i < taskCount; i++) {
+      UUID taskId = UUID.randomUUID();
+      taskRowList.add(new Object[] {taskId, userId, "integration task " + i});
+      taskIdList.add(taskId);
+    }
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO tasks (id, user_id, task_name, status) VALUES (?, ?, ?, 'PENDING')",
+        taskRowList);
+    return taskIdList;
+  }
+
+  /**
+   * Finds the owner of a seeded task.
+   *
+   * @param taskId the ID of the task
+   * @return the ID of the task's user
+   */
+  protected UUID findUserId(UUID taskId) {
+    return jdbcTemplate.queryForObject(
+        "SELECT user_id FROM tasks WHERE id = ?", UUID.class, taskId);
+  }
+}
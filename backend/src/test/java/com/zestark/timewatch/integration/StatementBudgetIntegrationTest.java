@@ -0,0 +1,102 @@
+package com.zestark.timewatch.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.zestark.timewatch.metrics.SqlStatementCounter;
+import com.zestark.timewatch.service.TaskService;
+import com.zestark.timewatch.service.TaskSessionService;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Checks the statement budgets of the timer service methods against a real database.
+ *
+ * <p>The unit tests count calls on repository mocks, which cannot see the statements
+ * Hibernate adds on its own, such as flushed entity changes, lazy loads or the event
+ * INSERT written at commit. Here every statement Hibernate prepares is counted by
+ * {@link SqlStatementCounter}, and a JDBC batch counts once. The batch budgets do not grow
+ * with the number of tasks.
+ */
+@DisplayName("SQL文数バジェット結合テスト")
+class StatementBudgetIntegrationTest extends DatabaseIntegrationTest {
+
+  private static final int BATCH_SIZE = 20;
+
+  @Autowired
+  private SqlStatementCounter statementCounter;
+
+  @Autowired
+  private TaskService taskService;
+
+  @Autowired
+  private TaskSessionService taskSessionService;
+
+  private List<UUID> taskIdList;
+
+  /**
+   * Seeds one user with a batch of tasks before each test.
+   */
+  @BeforeEach
+  void setUp() {
+    taskIdList = reseedTasks(BATCH_SIZE);
+  }
+
+  /**
+   * Runs an action and asserts the number of statements it issued on this thread.
+   */
+  private <T> T assertStatementsAtMost(int maxStatements, Supplier<T> action) {
+    statementCounter.begin();
+    T result;
+    try {
+      result = action.get();
+    } finally {
+      int statementCount = statementCounter.end();
+      assertTrue(statementCount <= maxStatements,
+          "Expected at most " + maxStatements + " statements but " + statementCount
+              + " were issued");
+    }
+    return result;
+  }
+
+  @Test
+  @DisplayName("startTaskSession_shouldStayWithinBudget_whenStatementsAreCounted")
+  void startTaskSession_shouldStayWithinBudget_whenStatementsAreCounted() {
+    // Arrange
+    UUID taskId = taskIdList.get(0);
+
+    // Act & Assert
+    assertStatementsAtMost(1, () -> taskSessionService.startTaskSession(taskId));
+    assertStatementsAtMost(1, () -> taskSessionService.stopTaskSession(taskId));
+    assertEquals(1, jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM task_events WHERE task_id = ? AND event_type = 'STOP'",
+        Integer.class, taskId));
+  }
+
+  @Test
+  @DisplayName("startTaskSessions_shouldNotIssueStatementsPerTask_whenStatementsAreCounted")
+  void startTaskSessions_shouldNotIssueStatementsPerTask_whenStatementsAreCounted() {
+    // Act & Assert
+    // Two lookups, the session INSERT and task UPDATE batches, and the event INSERT
+    assertStatementsAtMost(5, () -> taskSessionService.startTaskSessions(taskIdList));
+    // One statement ends the sessions, updates the tasks, and writes events and rollup
+    assertStatementsAtMost(1, () -> taskSessionService.stopTaskSessions(taskIdList));
+    assertEquals(BATCH_SIZE, jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM task_sessions WHERE end_time IS NOT NULL", Integer.class));
+  }
+
+  @Test
+  @DisplayName("createTask_shouldStayWithinBudget_whenStatementsAreCounted")
+  void createTask_shouldStayWithinBudget_whenStatementsAreCounted() {
+    // Arrange
+    UUID userId = findUserId(taskIdList.get(0));
+
+    // Act & Assert
+    assertStatementsAtMost(1, () -> taskService.createTask(userId, "Budget task", null));
+  }
+}
@@ -0,0 +1,130 @@
+package com.zestark.timewatch.integration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.zestark.timewatch.domain.model.TaskSessionBatchResult;
+import com.zestark.timewatch.service.TaskSessionService;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Checks that a batch stop does not stop or count a session twice when another request
+ * stops the same session concurrently.
+ */
+@DisplayName("セッション一括停止の競合結合テスト")
+class TaskSessionStopRaceIntegrationTest extends DatabaseIntegrationTest {
+
+  private static final long WAIT_SECONDS = 30;
+
+  @Autowired
+  private TaskSessionService taskSessionService;
+
+  @Autowired
+  private TransactionTemplate transactionTemplate;
+
+  private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+  private List<UUID> taskIdList;
+
+  /**
+   * Seeds two tasks whose sessions have been running for an hour.
+   */
+  @BeforeEach
+  void setUp() {
+    taskIdList = reseedTasks(2);
+    LocalDateTime startTime = LocalDateTime.now().minusHours(1);
+    for (UUID taskId : taskIdList) {
+      jdbcTemplate.update("UPDATE tasks SET status = 'RUNNING' WHERE id = ?", taskId);
+      jdbcTemplate.update("INSERT INTO task_sessions (id, task_id, user_id, start_time)"
+          + " SELECT ?, id, user_id, ? FROM tasks WHERE id = ?",
+          UUID.randomUUID(), startTime, taskId);
+    }
+  }
+
+  /**
+   * Stops the threads of the concurrent requests.
+   */
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Waits until the batch stop is blocked on a row lock held by the concurrent stop.
+   */
+  private void awaitBatchStopBlocked() throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(WAIT_SECONDS);
+    while (System.nanoTime() < deadline) {
+      Integer blockedCount = jdbcTemplate.queryForObject(
+          "SELECT COUNT(*) FROM pg_stat_activity"
+              + " WHERE datname = current_database() AND wait_event_type = 'Lock'",
+          Integer.class);
+      if (blockedCount > 0) {
+        return;
+      }
+      Thread.sleep(20);
+    }
+    throw new AssertionError("The batch stop never waited for the concurrent stop");
+  }
+
+  @Test
+  @DisplayName("stopTaskSessions_shouldSkipSession_whenStoppedConcurrentlyBeforeItsWrite")
+  void stopTaskSessions_shouldSkipSession_whenStoppedConcurrentlyBeforeItsWrite()
+      throws Exception {
+    // Arrange
+    UUID contendedTaskId = taskIdList.get(0);
+    CountDownLatch singleStopWritten = new CountDownLatch(1);
+    CountDownLatch batchStopBlocked = new CountDownLatch(1);
+    Future<?> singleStop = executor.submit(() -> transactionTemplate.executeWithoutResult(
+        status -> {
+          taskSessionService.stopTaskSession(contendedTaskId);
+          singleStopWritten.countDown();
+          try {
+            batchStopBlocked.await(WAIT_SECONDS, TimeUnit.SECONDS);
+          } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+          }
+        }));
+    assertTrue(singleStopWritten.await(WAIT_SECONDS, TimeUnit.SECONDS));
+
+    // Act
+    Future<List<TaskSessionBatchResult>> batchStop =
+        executor.submit(() -> taskSessionService.stopTaskSessions(taskIdList));
+    awaitBatchStopBlocked();
+    batchStopBlocked.countDown();
+    singleStop.get(WAIT_SECONDS, TimeUnit.SECONDS);
+    List<TaskSessionBatchResult> resultList = batchStop.get(WAIT_SECONDS, TimeUnit.SECONDS);
+
+    // Assert
+    assertEquals(TaskSessionBatchResult.Outcome.CONFLICT, resultList.get(0).getOutcome());
+    assertEquals(TaskSessionBatchResult.Outcome.SUCCESS, resultList.get(1).getOutcome());
+    for (UUID taskId : taskIdList) {
+      assertEquals(1, jdbcTemplate.queryForObject(
+          "SELECT COUNT(*) FROM task_events WHERE task_id = ? AND event_type = 'STOP'",
+          Integer.class, taskId));
+      long sessionSeconds = jdbcTemplate.queryForObject(
+          "SELECT CAST(EXTRACT(EPOCH FROM end_time - start_time) AS bigint)"
+              + " FROM task_sessions WHERE task_id = ?",
+          Long.class, taskId);
+      long rollupSeconds = jdbcTemplate.queryForObject(
+          "SELECT SUM(seconds) FROM daily_task_usage WHERE task_id = ?", Long.class, taskId);
+      assertTrue(Math.abs(rollupSeconds - sessionSeconds) <= 1,
+          "Rollup has " + rollupSeconds + "s for a session of " + sessionSeconds + "s");
+    }
+    assertEquals(0, jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM tasks WHERE status <> 'PENDING'", Integer.class));
+  }
+}
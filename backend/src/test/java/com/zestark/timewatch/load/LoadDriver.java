@@ -0,0 +1,295 @@
+package com.zestark.timewatch.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Closed-loop HTTP load driver for the load tests.
+ *
+ * <p>Each client runs on its own virtual thread and repeats its script until the run
+ * duration is over, sending the next request as soon as the previous one is answered.
+ * Latencies are recorded per operation name and reported as percentiles.
+ */
+final class LoadDriver implements AutoCloseable {
+
+  private final String baseUrl;
+  private final HttpClient httpClient;
+
+  /**
+   * Creates a driver for an application.
+   *
+   * @param baseUrl the base URL of the API, including the context path
+   */
+  LoadDriver(String baseUrl) {
+    this.baseUrl = baseUrl;
+    this.httpClient = HttpClient.newBuilder()
+        .connectTimeout(Duration.ofSeconds(10))
+        .build();
+  }
+
+  /**
+   * One iteration of the requests a client sends.
+   */
+  @FunctionalInterface
+  interface ClientScript {
+
+    /**
+     * Sends the requests of one iteration.
+     *
+     * @param clientIndex the index of the client, from 0
+     * @param client the client to send requests with
+     */
+    void iterate(int clientIndex, Client client);
+  }
+
+  /**
+   * Runs a scenario.
+   *
+   * @param scenarioName the name shown in the report
+   * @param clientCount the number of concurrent clients
+   * @param duration how long the clients keep sending requests
+   * @param script the requests each client repeats
+   * @return the report of the run
+   * @throws InterruptedException if interrupted while waiting for the clients
+   */
+  LoadReport run(String scenarioName, int clientCount, Duration duration, ClientScript script)
+      throws InterruptedException {
+    ConcurrentLinkedQueue<Client> finishedClients = new ConcurrentLinkedQueue<>();
+    long startNanos = System.nanoTime();
+    long deadline = startNanos + duration.toNanos();
+
+    try (ExecutorService clientExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < clientCount; i++) {
+        int clientIndex = i;
+        clientExecutor.execute(() -> {
+          Client client = new Client();
+          while (System.nanoTime() < deadline) {
+            script.iterate(clientIndex, client);
+          }
+          finishedClients.add(client);
+        });
+      }
+    }
+    long elapsedNanos = System.nanoTime() - startNanos;
+
+    LoadReport report = new LoadReport(scenarioName, clientCount, elapsedNanos);
+    for (Client client : finishedClients) {
+      client.operationStats.forEach(report::merge);
+    }
+    return report;
+  }
+
+  @Override
+  public void close() {
+    httpClient.close();
+  }
+
+  /**
+   * Sends requests for one client and records their outcome.
+   */
+  final class Client {
+
+    private final Map<String, OperationStats> operationStats = new LinkedHashMap<>();
+
+    /**
+     * Sends a GET request.
+     *
+     * @param operation the operation name to record the request under
+     * @param path the path below the base URL
+     * @return the response status, or -1 if no response was received
+     */
+    int get(String operation, String path) {
+      return send(operation, HttpRequest.newBuilder(URI.create(baseUrl + path)).build());
+    }
+
+    /**
+     * Sends a POST request without a body.
+     *
+     * @param operation the operation name to record the request under
+     * @param path the path below the base URL
+     * @return the response status, or -1 if no response was received
+     */
+    int post(String operation, String path) {
+      return send(operation, HttpRequest.newBuilder(URI.create(baseUrl + path))
+          .POST(HttpRequest.BodyPublishers.noBody())
+          .build());
+    }
+
+    private int send(String operation, HttpRequest request) {
+      OperationStats stats = operationStats.computeIfAbsent(operation, key -> new OperationStats());
+      long requestStartNanos = System.nanoTime();
+      int status;
+      try {
+        status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+      } catch (IOException exception) {
+        status = -1;
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+        status = -1;
+      }
+      stats.record(System.nanoTime() - requestStartNanos, status);
+      return status;
+    }
+  }
+
+  /**
+   * Latencies and status counts of one operation.
+   */
+  static final class OperationStats {
+
+    private long[] latencyNanos = new long[1024];
+    private int count;
+    private long successCount;
+    private long conflictCount;
+    private long clientErrorCount;
+    private long serverErrorCount;
+    private long ioErrorCount;
+
+    private void record(long latency, int status) {
+      if (count == latencyNanos.length) {
+        latencyNanos = Arrays.copyOf(latencyNanos, count * 2);
+      }
+      latencyNanos[count++] = latency;
+      if (status < 0) {
+        ioErrorCount++;
+      } else if (status < 300) {
+        successCount++;
+      } else if (status == 409) {
+        conflictCount++;
+      } else if (status < 500) {
+        clientErrorCount++;
+      } else {
+        serverErrorCount++;
+      }
+    }
+
+    private void merge(OperationStats other) {
+      if (count + other.count > latencyNanos.length) {
+        latencyNanos = Arrays.copyOf(latencyNanos, count + other.count);
+      }
+      System.arraycopy(other.latencyNanos, 0, latencyNanos, count, other.count);
+      count += other.count;
+      successCount += other.successCount;
+      conflictCount += other.conflictCount;
+      clientErrorCount += other.clientErrorCount;
+      serverErrorCount += other.serverErrorCount;
+      ioErrorCount += other.ioErrorCount;
+    }
+
+    int getCount() {
+      return count;
+    }
+
+    long getSuccessCount() {
+      return successCount;
+    }
+
+    long getConflictCount() {
+      return conflictCount;
+    }
+
+    /**
+     * Gets the number of requests that failed with anything other than success or 409.
+     *
+     * @return the number of failed requests
+     */
+    long getFailureCount() {
+      return clientErrorCount + serverErrorCount + ioErrorCount;
+    }
+
+    long getServerErrorCount() {
+      return serverErrorCount + ioErrorCount;
+    }
+
+    /**
+     * Gets a latency percentile.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency in milliseconds
+     */
+    double percentileMillis(double percentile) {
+      if (count == 0) {
+        return 0;
+      }
+      long[] sorted = Arrays.copyOf(latencyNanos, count);
+      Arrays.sort(sorted);
+      int index = (int) Math.ceil(percentile / 100 * count) - 1;
+      return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+  }
+
+  /**
+   * Result of one scenario run.
+   */
+  static final class LoadReport {
+
+    private final String scenarioName;
+    private final int clientCount;
+    private final long elapsedNanos;
+    private final Map<String, OperationStats> operationStats = new LinkedHashMap<>();
+
+    private LoadReport(String scenarioName, int clientCount, long elapsedNanos) {
+      this.scenarioName = scenarioName;
+      this.clientCount = clientCount;
+      this.elapsedNanos = elapsedNanos;
+    }
+
+    private void merge(String operation, OperationStats stats) {
+      operationStats.computeIfAbsent(operation, key -> new OperationStats()).merge(stats);
+    }
+
+    /**
+     * Gets the stats of one operation.
+     *
+     * @param operation the operation name
+     * @return the stats, empty if the operation was never sent
+     */
+    OperationStats getOperation(String operation) {
+      return operationStats.getOrDefault(operation, new OperationStats());
+    }
+
+    /**
+     * Gets the stats of all operations combined.
+     *
+     * @return the combined stats
+     */
+    OperationStats getTotal() {
+      OperationStats total = new OperationStats();
+      operationStats.values().forEach(total::merge);
+      return total;
+    }
+
+    /**
+     * Gets the number of requests completed per second over the whole run.
+     *
+     * @return the throughput in requests per second
+     */
+    double getThroughput() {
+      return getTotal().getCount() / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder report = new StringBuilder();
+      report.append(String.format("[load-test] %s: %d clients, %.1f req/s%n",
+          scenarioName, clientCount, getThroughput()));
+      Map<String, OperationStats> rows = new LinkedHashMap<>(operationStats);
+      rows.put("total", getTotal());
+      rows.forEach((operation, stats) -> report.append(String.format(
+          "[load-test]   %-16s count=%-8d p50=%8.2fms p99=%8.2fms ok=%d conflict=%d failed=%d%n",
+          operation, stats.getCount(), stats.percentileMillis(50), stats.percentileMillis(99),
+          stats.getSuccessCount(), stats.getConflictCount(), stats.getFailureCount())));
+      return report.toString();
+    }
+  }
+}
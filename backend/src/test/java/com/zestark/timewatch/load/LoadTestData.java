@@ -0,0 +1,61 @@
+package com.zestark.timewatch.load;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Seeds the users and tasks that load test clients work on.
+ */
+final class LoadTestData {
+
+  private LoadTestData() {
+  }
+
+  /**
+   * A seeded user and the IDs of the user's tasks.
+   *
+   * @param userId the ID of the user
+   * @param taskIds the IDs of the user's tasks
+   */
+  record SeededUser(UUID userId, List<UUID> taskIds) {
+
+    UUID firstTaskId() {
+      return taskIds.get(0);
+    }
+  }
+
+  /**
+   * Removes all users, with their tasks and sessions, and inserts new ones.
+   *
+   * @param jdbcTemplate the JDBC template of the application under test
+   * @param userCount the number of users to insert
+   * @param tasksPerUser the number of tasks to insert for each user
+   * @return the inserted users
+   */
+  static List<SeededUser> reseed(JdbcTemplate jdbcTemplate, int userCount, int tasksPerUser) {
+    jdbcTemplate.execute("TRUNCATE users CASCADE");
+    List<SeededUser> seededUserList = new ArrayList<>();
+    List<Object[]> userRowList = new ArrayList<>();
+    List<Object[]> taskRowList = new ArrayList<>();
+    for (int i = 0; i < userCount; i++) {
+      UUID userId = UUID.randomUUID();
+      userRowList.add(new Object[] {userId, "load" + i, "load" + i + "@example.com"});
+      List<UUID> taskIds = new ArrayList<>();
+      for (int j = 0; j < tasksPerUser; j++) {
+        UUID taskId = UUID.randomUUID();
+        taskRowList.add(new Object[] {taskId, userId, "load task " + i + "-" + j});
+        taskIds.add(taskId);
+      }
+      seededUserList.add(new SeededUser(userId, taskIds));
+    }
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO users (id, username, email, password_hash) VALUES (?, ?, ?, 'x')",
+        userRowList);
+    jdbcTemplate.batchUpdate(
+        "INSERT INTO tasks (id, user_id, task_name, status) VALUES (?, ?, ?, 'PENDING')",
+        taskRowList);
+    return seededUserList;
+  }
+}
@@ -0,0 +1,92 @@
+package com.zestark.timewatch.load;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * PostgreSQL database that load tests run the application against.
+ *
+ * <p>A Testcontainers PostgreSQL instance is started by default. Setting the system property
+ * {@code loadtest.jdbc.url} (with {@code loadtest.jdbc.username} and
+ * {@code loadtest.jdbc.password}) points the tests at an existing, empty database instead.
+ */
+final class LoadTestDatabase implements AutoCloseable {
+
+  private static final String POSTGRES_IMAGE = "postgres:15-alpine";
+
+  private final PostgreSQLContainer<?> container;
+  private final String jdbcUrl;
+  private final String username;
+  private final String password;
+
+  private LoadTestDatabase(
+      PostgreSQLContainer<?> container,
+      String jdbcUrl,
+      String username,
+      String password) {
+    this.container = container;
+    this.jdbcUrl = jdbcUrl;
+    this.username = username;
+    this.password = password;
+  }
+
+  /**
+   * Starts or connects to the load test database.
+   *
+   * @return the database
+   */
+  static LoadTestDatabase start() {
+    String externalUrl = System.getProperty("loadtest.jdbc.url");
+    if (externalUrl != null) {
+      return new LoadTestDatabase(
+          null,
+          externalUrl,
+          System.getProperty("loadtest.jdbc.username", "postgres"),
+          System.getProperty("loadtest.jdbc.password", "")
+      );
+    }
+    PostgreSQLContainer<?> container = new PostgreSQLContainer<>(POSTGRES_IMAGE);
+    container.start();
+    return new LoadTestDatabase(
+        container, container.getJdbcUrl(), container.getUsername(), container.getPassword());
+  }
+
+  /**
+   * Builds the application properties that connect to this database with quiet logging.
+   *
+   * @return the application properties
+   */
+  Map<String, Object> applicationProperties() {
+    Map<String, Object> properties = new HashMap<>();
+    properties.put("server.port", 0);
+    properties.put("spring.datasource.url", jdbcUrl);
+    properties.put("spring.datasource.username", username);
+    properties.put("spring.datasource.password", password);
+    properties.put("logging.level.root", "WARN");
+    properties.put("logging.level.com.zestark.timewatch", "WARN");
+    // Unique violations are expected (409) in the contention scenario
+    properties.put("logging.level.org.hibernate.engine.jdbc.spi.SqlExceptionHelper", "OFF");
+    return properties;
+  }
+
+  /**
+   * Converts application properties to command line arguments, which take precedence over
+   * application.yml.
+   *
+   * @param properties the application properties
+   * @return the command line arguments
+   */
+  static String[] toArguments(Map<String, Object> properties) {
+    return properties.entrySet().stream()
+        .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+        .toArray(String[]::new);
+  }
+
+  @Override
+  public void close() {
+    if (container != null) {
+      container.stop();
+    }
+  }
+}
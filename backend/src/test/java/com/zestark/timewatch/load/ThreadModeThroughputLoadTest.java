@@ -0,0 +1,95 @@
+package com.zestark.timewatch.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.zestark.timewatch.TimewatchApplication;
+import com.zestark.timewatch.load.LoadDriver.LoadReport;
+import com.zestark.timewatch.load.LoadTestData.SeededUser;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Load test comparing request throughput with platform threads and with virtual threads.
+ *
+ * <p>The application is started twice against the same database and the same Hikari pool
+ * size, once per thread mode. Every client owns one task and repeatedly starts its timer,
+ * reads the running sessions and stops the timer, so each request blocks on JDBC.
+ * Run with {@code mvn test -Pload-test}; {@code loadtest.clients},
+ * {@code loadtest.warmup-seconds} and {@code loadtest.duration-seconds} tune the run.
+ */
+@Tag("load")
+@DisplayName("スレッドモード別スループット負荷テスト")
+class ThreadModeThroughputLoadTest {
+
+  private static final int CLIENT_COUNT = Integer.getInteger("loadtest.clients", 400);
+  private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmup-seconds", 5);
+  private static final int DURATION_SECONDS = Integer.getInteger("loadtest.duration-seconds", 20);
+
+  private static LoadTestDatabase database;
+
+  @BeforeAll
+  static void startDatabase() {
+    database = LoadTestDatabase.start();
+  }
+
+  @AfterAll
+  static void stopDatabase() {
+    database.close();
+  }
+
+  @Test
+  @DisplayName("throughput_shouldBeMeasured_forPlatformAndVirtualThreads")
+  void throughput_shouldBeMeasured_forPlatformAndVirtualThreads() throws Exception {
+    // Act
+    LoadReport platformReport = runWorkload(false);
+    LoadReport virtualReport = runWorkload(true);
+
+    // Assert
+    System.out.print(platformReport);
+    System.out.print(virtualReport);
+    assertEquals(0, platformReport.getTotal().getFailureCount());
+    assertEquals(0, virtualReport.getTotal().getFailureCount());
+    assertTrue(platformReport.getTotal().getCount() > 0);
+    assertTrue(virtualReport.getTotal().getCount() > 0);
+  }
+
+  private LoadReport runWorkload(boolean virtualThreadsEnabled) throws Exception {
+    Map<String, Object> properties = database.applicationProperties();
+    properties.put("spring.threads.virtual.enabled", virtualThreadsEnabled);
+
+    try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+        TimewatchApplication.class).run(LoadTestDatabase.toArguments(properties))) {
+      int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+      List<SeededUser> seededUserList =
+          LoadTestData.reseed(context.getBean(JdbcTemplate.class), CLIENT_COUNT, 1);
+      String poolSize = context.getEnvironment()
+          .getProperty("spring.datasource.hikari.maximum-pool-size");
+      String scenarioName = (virtualThreadsEnabled ? "virtual threads" : "platform threads")
+          + " (hikari.maximum-pool-size=" + poolSize + ")";
+
+      LoadDriver.ClientScript script = (clientIndex, client) -> {
+        SeededUser seededUser = seededUserList.get(clientIndex);
+        String sessionsPath = "/tasks/" + seededUser.firstTaskId() + "/sessions";
+        client.post("start", sessionsPath + "/start");
+        client.get("running", "/users/" + seededUser.userId() + "/running-sessions");
+        client.post("stop", sessionsPath + "/stop");
+      };
+      try (LoadDriver loadDriver = new LoadDriver("http://localhost:" + port + "/api")) {
+        loadDriver.run("warmup", CLIENT_COUNT, Duration.ofSeconds(WARMUP_SECONDS), script);
+        return loadDriver.run(
+            scenarioName, CLIENT_COUNT, Duration.ofSeconds(DURATION_SECONDS), script);
+      }
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package com.zestark.timewatch.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.zestark.timewatch.TimewatchApplication;
+import com.zestark.timewatch.load.LoadDriver.LoadReport;
+import com.zestark.timewatch.load.LoadTestData.SeededUser;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * End-to-end load test of the timer and task list endpoints against a throwaway database.
+ *
+ * <p>Reports throughput and p50/p99 latency per operation for three scenarios: clients
+ * starting and stopping their own tasks, clients listing their tasks, and clients racing
+ * to start and stop one shared task. Run with {@code mvn test -Pload-test}; the
+ * {@code loadtest.*} system properties below tune the run, and
+ * {@code loadtest.virtual-threads=true} runs the application on virtual threads.
+ */
+@Tag("load")
+@DisplayName("タイマーAPI負荷テスト")
+class TimerEndpointLoadTest {
+
+  private static final int CLIENT_COUNT = Integer.getInteger("loadtest.clients", 100);
+  private static final int CONTENTION_CLIENT_COUNT =
+      Integer.getInteger("loadtest.contention-clients", 50);
+  private static final int TASKS_PER_USER = Integer.getInteger("loadtest.tasks-per-user", 50);
+  private static final Duration WARMUP =
+      Duration.ofSeconds(Integer.getInteger("loadtest.warmup-seconds", 5));
+  private static final Duration DURATION =
+      Duration.ofSeconds(Integer.getInteger("loadtest.duration-seconds", 20));
+
+  private static LoadTestDatabase database;
+  private static ConfigurableApplicationContext context;
+  private static JdbcTemplate jdbcTemplate;
+  private static LoadDriver loadDriver;
+
+  @BeforeAll
+  static void startApplication() {
+    database = LoadTestDatabase.start();
+    Map<String, Object> properties = database.applicationProperties();
+    properties.put(
+        "spring.threads.virtual.enabled", Boolean.getBoolean("loadtest.virtual-threads"));
+    context = new SpringApplicationBuilder(TimewatchApplication.class)
+        .run(LoadTestDatabase.toArguments(properties));
+    jdbcTemplate = context.getBean(JdbcTemplate.class);
+    int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+    loadDriver = new LoadDriver("http://localhost:" + port + "/api");
+  }
+
+  @AfterAll
+  static void stopApplication() {
+    loadDriver.close();
+    context.close();
+    database.close();
+  }
+
+  @Test
+  @DisplayName("startStop_shouldSucceed_whenEachClientOwnsItsTask")
+  void startStop_shouldSucceed_whenEachClientOwnsItsTask() throws Exception {
+    // Arrange
+    List<SeededUser> seededUserList = LoadTestData.reseed(jdbcTemplate, CLIENT_COUNT, 1);
+    LoadDriver.ClientScript script = (clientIndex, client) -> {
+      String sessionsPath = "/tasks/" + seededUserList.get(clientIndex).firstTaskId() + "/sessions";
+      client.post("start", sessionsPath + "/start");
+      client.get("running", sessionsPath + "/running");
+      client.post("stop", sessionsPath + "/stop");
+    };
+
+    // Act
+    loadDriver.run("warmup", CLIENT_COUNT, WARMUP, script);
+    LoadReport report = loadDriver.run("start/running/stop", CLIENT_COUNT, DURATION, script);
+
+    // Assert
+    System.out.print(report);
+    assertEquals(0, report.getTotal().getFailureCount());
+    assertEquals(0, report.getTotal().getConflictCount());
+    assertTrue(report.getOperation("start").getSuccessCount() > 0);
+  }
+
+  @Test
+  @DisplayName("listTasks_shouldSucceed_whenClientsPageThroughTheirTasks")
+  void listTasks_shouldSucceed_whenClientsPageThroughTheirTasks() throws Exception {
+    // Arrange
+    List<SeededUser> seededUserList =
+        LoadTestData.reseed(jdbcTemplate, CLIENT_COUNT, TASKS_PER_USER);
+    LoadDriver.ClientScript script = (clientIndex, client) -> {
+      UUID userId = seededUserList.get(clientIndex).userId();
+      client.get("list", "/tasks?userId=" + userId + "&size=20");
+      client.get("list-page-2", "/tasks?userId=" + userId + "&size=20&page=1");
+    };
+
+    // Act
+    loadDriver.run("warmup", CLIENT_COUNT, WARMUP, script);
+    LoadReport report = loadDriver.run("list tasks", CLIENT_COUNT, DURATION, script);
+
+    // Assert
+    System.out.print(report);
+    assertEquals(0, report.getTotal().getFailureCount());
+    assertTrue(report.getTotal().getSuccessCount() > 0);
+  }
+
+  @Test
+  @DisplayName("startStop_shouldKeepOneRunningSession_whenClientsRaceOnSameTask")
+  void startStop_shouldKeepOneRunningSession_whenClientsRaceOnSameTask() throws Exception {
+    // Arrange
+    UUID sharedTaskId = LoadTestData.reseed(jdbcTemplate, 1, 1).get(0).firstTaskId();
+    String sessionsPath = "/tasks/" + sharedTaskId + "/sessions";
+    AtomicLong startedCount = new AtomicLong();
+    AtomicLong stoppedCount = new AtomicLong();
+    Set<String> unexpectedStatuses = ConcurrentHashMap.newKeySet();
+    LoadDriver.ClientScript script = (clientIndex, client) -> {
+      int startStatus = client.post("start", sessionsPath + "/start");
+      if (startStatus == 201) {
+        startedCount.incrementAndGet();
+      } else if (startStatus != 409) {
+        unexpectedStatuses.add("start " + startStatus);
+      }
+      int stopStatus = client.post("stop", sessionsPath + "/stop");
+      if (stopStatus == 200) {
+        stoppedCount.incrementAndGet();
+      } else if (stopStatus != 409) {
+        unexpectedStatuses.add("stop " + stopStatus);
+      }
+    };
+
+    // Act
+    loadDriver.run("warmup", CONTENTION_CLIENT_COUNT, WARMUP, script);
+    LoadReport report =
+        loadDriver.run("contention on one task", CONTENTION_CLIENT_COUNT, DURATION, script);
+
+    // Assert
+    System.out.print(report);
+    assertEquals(0, report.getTotal().getFailureCount());
+    assertEquals(Set.of(), unexpectedStatuses);
+    assertTrue(report.getOperation("start").getSuccessCount() > 0);
+    assertTrue(report.getOperation("stop").getSuccessCount() > 0);
+    // Starts and stops alternate: every 201 start opened a session, every 200 stop closed
+    // one, and at most the last one is still running
+    Map<String, Object> sessionCounts = jdbcTemplate.queryForMap(
+        "SELECT COUNT(*) AS total, COUNT(*) FILTER (WHERE end_time IS NULL) AS running"
+            + " FROM task_sessions WHERE task_id = ?",
+        sharedTaskId);
+    long runningSessionCount = ((Number) sessionCounts.get("running")).longValue();
+    assertTrue(runningSessionCount <= 1);
+    assertEquals(startedCount.get(), ((Number) sessionCounts.get("total")).longValue());
+    assertEquals(startedCount.get(), stoppedCount.get() + runningSessionCount);
+    // The lock row, the task status and the running session agree
+    assertEquals(0, jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM task_sessions s WHERE s.task_id = ? AND s.end_time IS NULL"
+            + " AND NOT EXISTS (SELECT 1 FROM task_running_locks l"
+            + " WHERE l.task_id = s.task_id AND l.session_id = s.id)",
+        Integer.class,
+        sharedTaskId));
+    assertEquals(runningSessionCount, jdbcTemplate.queryForObject(
+        "SELECT COUNT(*) FROM task_running_locks WHERE task_id = ?",
+        Long.class,
+        sharedTaskId));
+    assertEquals(runningSessionCount == 1 ? "RUNNING" : "PENDING", jdbcTemplate.queryForObject(
+        "SELECT status FROM tasks WHERE id = ?",
+        String.class,
+        sharedTaskId));
+  }
+}
@@ -0,0 +1,71 @@
+package com.zestark.timewatch.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for SqlStatementCounter.
+ */
+@DisplayName("SqlStatementCounter単体テスト")
+class SqlStatementCounterTest {
+
+  private static final String SQL = "select 1";
+
+  private SqlStatementCounter statementCounter;
+
+  /**
+   * Setup a fresh counter before each test.
+   */
+  @BeforeEach
+  void setUp() {
+    statementCounter = new SqlStatementCounter();
+  }
+
+  @Test
+  @DisplayName("inspect_shouldCountStatements_betweenBeginAndEnd")
+  void inspect_shouldCountStatements_betweenBeginAndEnd() {
+    // Arrange
+    statementCounter.begin();
+
+    // Act
+    statementCounter.inspect(SQL);
+    statementCounter.inspect(SQL);
+    int currentCount = statementCounter.current();
+    statementCounter.inspect(SQL);
+    int finalCount = statementCounter.end();
+
+    // Assert
+    assertEquals(2, currentCount);
+    assertEquals(3, finalCount);
+    assertEquals(0, statementCounter.current());
+  }
+
+  @Test
+  @DisplayName("inspect_shouldReturnSqlUnchanged_whenCountingHasNotBegun")
+  void inspect_shouldReturnSqlUnchanged_whenCountingHasNotBegun() {
+    // Act
+    String inspectedSql = statementCounter.inspect(SQL);
+
+    // Assert
+    assertEquals(SQL, inspectedSql);
+    assertEquals(0, statementCounter.end());
+  }
+
+  @Test
+  @DisplayName("inspect_shouldNotCountStatements_ofOtherThreads")
+  void inspect_shouldNotCountStatements_ofOtherThreads() {
+    // Arrange
+    statementCounter.begin();
+
+    // Act
+    CompletableFuture.runAsync(() -> statementCounter.inspect(SQL)).join();
+    statementCounter.inspect(SQL);
+
+    // Assert
+    assertEquals(1, statementCounter.end());
+  }
+}
@@ -0,0 +1,89 @@
+package com.zestark.timewatch.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import com.zestark.timewatch.repository.TaskSessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for TaskSessionMetrics.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskSessionMetrics単体テスト")
+class TaskSessionMetricsTest {
+
+  @Mock
+  private TaskSessionRepository taskSessionRepository;
+
+  private MeterRegistry meterRegistry;
+  private TaskSessionMetrics sessionMetrics;
+
+  /**
+   * Setup a fresh registry before each test.
+   */
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    sessionMetrics = new TaskSessionMetrics(meterRegistry, taskSessionRepository);
+  }
+
+  @Test
+  @DisplayName("recordConflict_shouldIncrementCounter_perOperation")
+  void recordConflict_shouldIncrementCounter_perOperation() {
+    // Act
+    sessionMetrics.recordConflict(TaskSessionMetrics.STOP);
+    sessionMetrics.recordConflict(TaskSessionMetrics.STOP);
+    sessionMetrics.recordConflict(TaskSessionMetrics.BATCH_START);
+
+    // Assert
+    assertEquals(2.0, meterRegistry.get("timewatch.session.conflicts")
+        .tag("operation", TaskSessionMetrics.STOP).counter().count());
+    assertEquals(1.0, meterRegistry.get("timewatch.session.conflicts")
+        .tag("operation", TaskSessionMetrics.BATCH_START).counter().count());
+  }
+
+  @Test
+  @DisplayName("recordConstraintRace_shouldAlsoCountConflict")
+  void recordConstraintRace_shouldAlsoCountConflict() {
+    // Act
+    sessionMetrics.recordConstraintRace(TaskSessionMetrics.BATCH_START);
+
+    // Assert
+    assertEquals(1.0, meterRegistry.get("timewatch.session.constraint.races")
+        .tag("operation", TaskSessionMetrics.BATCH_START).counter().count());
+    assertEquals(1.0, meterRegistry.get("timewatch.session.conflicts")
+        .tag("operation", TaskSessionMetrics.BATCH_START).counter().count());
+  }
+
+  @Test
+  @DisplayName("refreshRunningSessionCount_shouldUpdateGauge")
+  void refreshRunningSessionCount_shouldUpdateGauge() {
+    // Arrange
+    when(taskSessionRepository.countRunningSessions()).thenReturn(7L);
+
+    // Act
+    sessionMetrics.refreshRunningSessionCount();
+
+    // Assert
+    assertEquals(7.0, meterRegistry.get("timewatch.sessions.running").gauge().value());
+  }
+
+  @Test
+  @DisplayName("recordAutoStops_shouldAddStoppedSessionCount")
+  void recordAutoStops_shouldAddStoppedSessionCount() {
+    // Act
+    sessionMetrics.recordAutoStops(3);
+    sessionMetrics.recordAutoStops(2);
+
+    // Assert
+    assertEquals(5.0, meterRegistry.get("timewatch.session.auto.stopped").counter().count());
+  }
+}
@@ -0,0 +1,211 @@
+package com.zestark.timewatch.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zestark.timewatch.domain.model.ArchivedEventRow;
+import com.zestark.timewatch.domain.model.ArchivedSessionRow;
+import com.zestark.timewatch.metrics.DataRetentionMetrics;
+import com.zestark.timewatch.repository.TaskEventRepository;
+import com.zestark.timewatch.repository.TaskSessionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Unit tests for DataRetentionService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DataRetentionService単体テスト")
+class DataRetentionServiceTest {
+
+  private static final LocalDateTime CUTOFF = LocalDateTime.of(2026, 4, 18, 0, 0);
+
+  @Mock
+  private TaskSessionRepository taskSessionRepository;
+
+  @Mock
+  private TaskEventRepository taskEventRepository;
+
+  @Mock
+  private HistoryArchiveService historyArchiveService;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private MeterRegistry meterRegistry;
+  private DataRetentionService dataRetentionService;
+
+  /**
+   * Setup the service before each test.
+   */
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    dataRetentionService = createService(Duration.ofMinutes(60));
+  }
+
+  private DataRetentionService createService(Duration maxRunDuration) {
+    return new DataRetentionService(taskSessionRepository, taskEventRepository,
+        historyArchiveService, transactionManager, new DataRetentionMetrics(meterRegistry), 6, 100,
+        Duration.ZERO, Duration.ofSeconds(2), maxRunDuration);
+  }
+
+  @Test
+  @DisplayName("retentionCutoff_shouldBeStartOfDay_retentionMonthsAgo")
+  void retentionCutoff_shouldBeStartOfDay_retentionMonthsAgo() {
+    // Act
+    LocalDateTime cutoff = dataRetentionService.retentionCutoff(LocalDate.of(2026, 10, 18));
+
+    // Assert
+    assertEquals(CUTOFF, cutoff);
+  }
+
+  @Test
+  @DisplayName("purgeHistoryBefore_shouldDropPartitionsThenDeleteInBatches")
+  void purgeHistoryBefore_shouldDropPartitionsThenDeleteInBatches() {
+    // Arrange
+    when(taskSessionRepository.dropExpiredPartition(CUTOFF, "2000"))
+        .thenReturn("task_sessions_y2026m02", "task_sessions_y2026m03", (String) null);
+    when(taskEventRepository.dropExpiredPartition(CUTOFF, "2000"))
+        .thenReturn("task_events_y2026m03", (String) null);
+    when(taskSessionRepository.deleteCompletedSessionsBefore(CUTOFF, 100)).thenReturn(100, 40);
+    when(taskEventRepository.deleteEventsBefore(CUTOFF, 100)).thenReturn(7);
+
+    // Act
+    boolean completed = dataRetentionService.purgeHistoryBefore(CUTOFF);
+
+    // Assert
+    assertTrue(completed);
+    InOrder inOrder = inOrder(taskSessionRepository, taskEventRepository);
+    inOrder.verify(taskSessionRepository, times(3))
+        .dropExpiredPartition(CUTOFF, "2000");
+    inOrder.verify(taskEventRepository, times(2))
+        .dropExpiredPartition(CUTOFF, "2000");
+    inOrder.verify(taskSessionRepository, times(2))
+        .deleteCompletedSessionsBefore(CUTOFF, 100);
+    inOrder.verify(taskEventRepository).deleteEventsBefore(CUTOFF, 100);
+    assertEquals(2.0, meterRegistry.get("timewatch.retention.dropped.partitions")
+        .tag("table", DataRetentionMetrics.TASK_SESSIONS).counter().count());
+    assertEquals(1.0, meterRegistry.get("timewatch.retention.dropped.partitions")
+        .tag("table", DataRetentionMetrics.TASK_EVENTS).counter().count());
+    assertEquals(140.0, meterRegistry.get("timewatch.retention.deleted.rows")
+        .tag("table", DataRetentionMetrics.TASK_SESSIONS).counter().count());
+    assertEquals(7.0, meterRegistry.get("timewatch.retention.deleted.rows")
+        .tag("table", DataRetentionMetrics.TASK_EVENTS).counter().count());
+    assertEquals(1.0, meterRegistry.get("timewatch.retention.runs")
+        .tag("outcome", DataRetentionMetrics.COMPLETED).counter().count());
+    assertTrue(meterRegistry.get("timewatch.retention.last.completed").gauge().value() > 0);
+  }
+
+  @Test
+  @DisplayName("purgeHistoryBefore_shouldStopAndRetryLater_whenLockTimesOut")
+  void purgeHistoryBefore_shouldStopAndRetryLater_whenLockTimesOut() {
+    // Arrange
+    when(taskSessionRepository.dropExpiredPartition(CUTOFF, "2000"))
+        .thenThrow(new CannotAcquireLockException("canceling statement due to lock timeout"));
+
+    // Act
+    boolean completed = dataRetentionService.purgeHistoryBefore(CUTOFF);
+
+    // Assert
+    assertFalse(completed);
+    verify(taskSessionRepository, never())
+        .deleteCompletedSessionsBefore(ArgumentMatchers.any(), ArgumentMatchers.anyInt());
+    verify(taskEventRepository, never())
+        .deleteEventsBefore(ArgumentMatchers.any(), ArgumentMatchers.anyInt());
+    assertEquals(1.0, meterRegistry.get("timewatch.retention.runs")
+        .tag("outcome", DataRetentionMetrics.LOCK_TIMEOUT).counter().count());
+    assertEquals(0.0, meterRegistry.get("timewatch.retention.last.completed").gauge().value());
+  }
+
+  @Test
+  @DisplayName("purgeHistoryBefore_shouldStop_whenTimeLimitIsReached")
+  void purgeHistoryBefore_shouldStop_whenTimeLimitIsReached() {
+    // Arrange
+    dataRetentionService = createService(Duration.ZERO);
+
+    // Act
+    boolean completed = dataRetentionService.purgeHistoryBefore(CUTOFF);
+
+    // Assert
+    assertFalse(completed);
+    verify(taskSessionRepository, never())
+        .dropExpiredPartition(ArgumentMatchers.any(), ArgumentMatchers.any());
+    assertEquals(1.0, meterRegistry.get("timewatch.retention.runs")
+        .tag("outcome", DataRetentionMetrics.TIME_LIMIT_REACHED).counter().count());
+  }
+
+  @Test
+  @DisplayName("purgeHistoryBefore_shouldArchiveBatchesBeforeDroppingPartitions_whenArchiveIsEnabled")
+  void purgeHistoryBefore_shouldArchiveBatchesBeforeDroppingPartitions_whenArchiveIsEnabled() {
+    // Arrange
+    List<ArchivedSessionRow> sessionRows = List.of(mock(ArchivedSessionRow.class));
+    List<ArchivedEventRow> eventRows = List.of(mock(ArchivedEventRow.class));
+    when(historyArchiveService.isEnabled()).thenReturn(true);
+    when(taskSessionRepository.deleteAndReturnCompletedSessionsBefore(CUTOFF, 100))
+        .thenReturn(sessionRows);
+    when(historyArchiveService.archiveSessions(sessionRows)).thenReturn(1);
+    when(taskEventRepository.deleteAndReturnEventsBefore(CUTOFF, 100)).thenReturn(eventRows);
+    when(historyArchiveService.archiveEvents(eventRows)).thenReturn(1);
+
+    // Act
+    boolean completed = dataRetentionService.purgeHistoryBefore(CUTOFF);
+
+    // Assert
+    assertTrue(completed);
+    InOrder inOrder = inOrder(taskSessionRepository, taskEventRepository, historyArchiveService);
+    inOrder.verify(historyArchiveService).archiveSessions(sessionRows);
+    inOrder.verify(historyArchiveService).archiveEvents(eventRows);
+    inOrder.verify(taskSessionRepository).dropExpiredPartition(CUTOFF, "2000");
+    inOrder.verify(taskEventRepository).dropExpiredPartition(CUTOFF, "2000");
+    verify(taskSessionRepository, never())
+        .deleteCompletedSessionsBefore(ArgumentMatchers.any(), ArgumentMatchers.anyInt());
+    assertEquals(1.0, meterRegistry.get("timewatch.retention.deleted.rows")
+        .tag("table", DataRetentionMetrics.TASK_SESSIONS).counter().count());
+  }
+
+  @Test
+  @DisplayName("purgeHistoryBefore_shouldStop_whenArchiveCannotBeWritten")
+  void purgeHistoryBefore_shouldStop_whenArchiveCannotBeWritten() {
+    // Arrange
+    List<ArchivedSessionRow> sessionRows = List.of(mock(ArchivedSessionRow.class));
+    when(historyArchiveService.isEnabled()).thenReturn(true);
+    when(taskSessionRepository.deleteAndReturnCompletedSessionsBefore(CUTOFF, 100))
+        .thenReturn(sessionRows);
+    when(historyArchiveService.archiveSessions(sessionRows))
+        .thenThrow(new UncheckedIOException(new IOException("No space left on device")));
+
+    // Act
+    boolean completed = dataRetentionService.purgeHistoryBefore(CUTOFF);
+
+    // Assert
+    assertFalse(completed);
+    verify(taskSessionRepository, never())
+        .dropExpiredPartition(ArgumentMatchers.any(), ArgumentMatchers.any());
+    assertEquals(1.0, meterRegistry.get("timewatch.retention.runs")
+        .tag("outcome", DataRetentionMetrics.ARCHIVE_FAILED).counter().count());
+  }
+}
@@ -0,0 +1,193 @@
+package com.zestark.timewatch.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.zestark.timewatch.domain.model.ArchivedEventRow;
+import com.zestark.timewatch.domain.model.ArchivedSessionRow;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for HistoryArchiveService.
+ */
+@DisplayName("HistoryArchiveService単体テスト")
+class HistoryArchiveServiceTest {
+
+  private static final UUID USER_ID = UUID.randomUUID();
+  private static final UUID TASK_ID = UUID.randomUUID();
+
+  @TempDir
+  private Path archiveDirectory;
+
+  private HistoryArchiveService historyArchiveService;
+
+  /**
+   * Setup the service before each test.
+   */
+  @BeforeEach
+  void setUp() {
+    historyArchiveService = new HistoryArchiveService(true, archiveDirectory);
+  }
+
+  private ArchivedSessionRow createSessionRow(UUID userId, LocalDateTime startTime) {
+    ArchivedSessionRow sessionRow = mock(ArchivedSessionRow.class);
+    when(sessionRow.getId()).thenReturn(UUID.randomUUID());
+    when(sessionRow.getTaskId()).thenReturn(TASK_ID);
+    when(sessionRow.getUserId()).thenReturn(userId);
+    when(sessionRow.getStartTime()).thenReturn(startTime);
+    when(sessionRow.getEndTime()).thenReturn(startTime.plusHours(1));
+    when(sessionRow.getCreatedAt()).thenReturn(startTime);
+    return sessionRow;
+  }
+
+  private String readArchiveFile(String table, String month) throws IOException {
+    try (InputStream inputStream = new GZIPInputStream(
+        Files.newInputStream(archiveDirectory.resolve(table).resolve(month + ".csv.gz")))) {
+      return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+
+  @Test
+  @DisplayName("archiveSessions_shouldAppendBatchesToMonthlyFiles_withOneHeader")
+  void archiveSessions_shouldAppendBatchesToMonthlyFiles_withOneHeader() throws IOException {
+    // Arrange
+    ArchivedSessionRow marchRow = createSessionRow(USER_ID, LocalDateTime.of(2026, 3, 31, 23, 0));
+    ArchivedSessionRow aprilRow = createSessionRow(USER_ID, LocalDateTime.of(2026, 4, 1, 9, 0));
+    ArchivedSessionRow secondMarchRow =
+        createSessionRow(USER_ID, LocalDateTime.of(2026, 3, 2, 9, 0, 15));
+
+    // Act
+    int firstCount = historyArchiveService.archiveSessions(List.of(marchRow, aprilRow));
+    int secondCount = historyArchiveService.archiveSessions(List.of(secondMarchRow));
+
+    // Assert
+    assertEquals(2, firstCount);
+    assertEquals(1, secondCount);
+    String[] marchLines = readArchiveFile("task_sessions", "2026-03").split("\n");
+    assertEquals(3, marchLines.length);
+    assertEquals(HistoryArchiveService.SESSIONS_HEADER_LINE, marchLines[0]);
+    assertEquals(marchRow.getId() + "," + TASK_ID + "," + USER_ID
+        + ",2026-03-31T23:00:00,2026-04-01T00:00:00,2026-03-31T23:00:00", marchLines[1]);
+    assertTrue(marchLines[2].startsWith(secondMarchRow.getId().toString()));
+    assertEquals(2, readArchiveFile("task_sessions", "2026-04").split("\n").length);
+  }
+
+  @Test
+  @DisplayName("archiveEvents_shouldWriteMonthOfOccurrence")
+  void archiveEvents_shouldWriteMonthOfOccurrence() throws IOException {
+    // Arrange
+    ArchivedEventRow eventRow = mock(ArchivedEventRow.class);
+    when(eventRow.getId()).thenReturn(UUID.randomUUID());
+    when(eventRow.getTaskId()).thenReturn(TASK_ID);
+    when(eventRow.getEventType()).thenReturn("STOP");
+    when(eventRow.getOccurredAt()).thenReturn(LocalDateTime.of(2026, 2, 10, 18, 30));
+
+    // Act
+    historyArchiveService.archiveEvents(List.of(eventRow));
+
+    // Assert
+    assertEquals(HistoryArchiveService.EVENTS_HEADER_LINE + "\n"
+        + eventRow.getId() + "," + TASK_ID + ",STOP,2026-02-10T18:30:00\n",
+        readArchiveFile("task_events", "2026-02"));
+  }
+
+  @Test
+  @DisplayName("streamSessions_shouldReturnUserSessionsInRange_orderedAndWithoutDuplicates")
+  void streamSessions_shouldReturnUserSessionsInRange_orderedAndWithoutDuplicates() {
+    // Arrange
+    ArchivedSessionRow lateRow = createSessionRow(USER_ID, LocalDateTime.of(2026, 4, 30, 23, 0));
+    ArchivedSessionRow earlyRow = createSessionRow(USER_ID, LocalDateTime.of(2026, 3, 15, 9, 0));
+    ArchivedSessionRow beforeRangeRow =
+        createSessionRow(USER_ID, LocalDateTime.of(2026, 3, 14, 23, 59));
+    ArchivedSessionRow otherUserRow =
+        createSessionRow(UUID.randomUUID(), LocalDateTime.of(2026, 3, 20, 9, 0));
+    historyArchiveService.archiveSessions(
+        List.of(lateRow, earlyRow, beforeRangeRow, otherUserRow));
+    historyArchiveService.archiveSessions(List.of(earlyRow));
+
+    // Act
+    List<ArchivedSessionRow> sessionRowList = historyArchiveService.streamSessions(
+        USER_ID, LocalDate.of(2026, 3, 15), LocalDate.of(2026, 4, 30)).toList();
+
+    // Assert
+    assertEquals(2, sessionRowList.size());
+    assertEquals(earlyRow.getId(), sessionRowList.get(0).getId());
+    assertEquals(earlyRow.getEndTime(), sessionRowList.get(0).getEndTime());
+    assertEquals(lateRow.getId(), sessionRowList.get(1).getId());
+  }
+
+  @Test
+  @DisplayName("streamSessions_shouldReturnEmptyList_whenArchiveIsDisabled")
+  void streamSessions_shouldReturnEmptyList_whenArchiveIsDisabled() {
+    // Arrange
+    historyArchiveService.archiveSessions(
+        List.of(createSessionRow(USER_ID, LocalDateTime.of(2026, 3, 15, 9, 0))));
+    HistoryArchiveService disabledService = new HistoryArchiveService(false, archiveDirectory);
+
+    // Act
+    List<ArchivedSessionRow> sessionRowList = disabledService.streamSessions(
+        USER_ID, LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31)).toList();
+
+    // Assert
+    assertTrue(sessionRowList.isEmpty());
+  }
+
+  @Test
+  @DisplayName("archiveSessions_shouldCutOffIncompleteMember_leftByCrashedWriter")
+  void archiveSessions_shouldCutOffIncompleteMember_leftByCrashedWriter() throws IOException {
+    // Arrange
+    ArchivedSessionRow firstRow = createSessionRow(USER_ID, LocalDateTime.of(2026, 3, 2, 9, 0));
+    ArchivedSessionRow secondRow = createSessionRow(USER_ID, LocalDateTime.of(2026, 3, 3, 9, 0));
+    historyArchiveService.archiveSessions(List.of(firstRow));
+    Path archiveFile = archiveDirectory.resolve("task_sessions").resolve("2026-03.csv.gz");
+    Files.write(archiveFile, new byte[] {0x1f, (byte) 0x8b, 8, 0, 0, 0},
+        StandardOpenOption.APPEND);
+    List<ArchivedSessionRow> rowsBeforeRecovery = historyArchiveService.streamSessions(
+        USER_ID, LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31)).toList();
+
+    // Act
+    historyArchiveService.archiveSessions(List.of(secondRow));
+
+    // Assert
+    assertEquals(1, rowsBeforeRecovery.size());
+    String[] marchLines = readArchiveFile("task_sessions", "2026-03").split("\n");
+    assertEquals(3, marchLines.length);
+    assertTrue(marchLines[2].startsWith(secondRow.getId().toString()));
+  }
+
+  @Test
+  @DisplayName("streamSessions_shouldOrderIdsLikeTheDatabase_whenStartTimesAreEqual")
+  void streamSessions_shouldOrderIdsLikeTheDatabase_whenStartTimesAreEqual() {
+    // Arrange
+    LocalDateTime startTime = LocalDateTime.of(2026, 3, 2, 9, 0);
+    ArchivedSessionRow highRow = createSessionRow(USER_ID, startTime);
+    when(highRow.getId()).thenReturn(UUID.fromString("f0000000-0000-0000-0000-000000000000"));
+    ArchivedSessionRow lowRow = createSessionRow(USER_ID, startTime);
+    when(lowRow.getId()).thenReturn(UUID.fromString("10000000-0000-0000-0000-000000000000"));
+    historyArchiveService.archiveSessions(List.of(highRow, lowRow));
+
+    // Act
+    List<ArchivedSessionRow> sessionRowList = historyArchiveService.streamSessions(
+        USER_ID, LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 31)).toList();
+
+    // Assert
+    assertEquals(lowRow.getId(), sessionRowList.get(0).getId());
+    assertEquals(highRow.getId(), sessionRowList.get(1).getId());
+  }
+}
@@ -0,0 +1,52 @@
+package com.zestark.timewatch.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zestark.timewatch.repository.TaskSessionRepository;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for PartitionMaintenanceService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PartitionMaintenanceService単体テスト")
+class PartitionMaintenanceServiceTest {
+
+  @Mock
+  private TaskSessionRepository taskSessionRepository;
+
+  private PartitionMaintenanceService partitionMaintenanceService;
+
+  /**
+   * Setup the service before each test.
+   */
+  @BeforeEach
+  void setUp() {
+    partitionMaintenanceService = new PartitionMaintenanceService(taskSessionRepository, 3);
+  }
+
+  @Test
+  @DisplayName("createUpcomingPartitions_shouldCoverCurrentAndFollowingMonths")
+  void createUpcomingPartitions_shouldCoverCurrentAndFollowingMonths() {
+    // Arrange
+    LocalDate fromMonth = LocalDate.of(2026, 11, 1);
+    LocalDate toMonth = LocalDate.of(2027, 2, 1);
+    when(taskSessionRepository.createMonthlyPartitions(fromMonth, toMonth)).thenReturn(2);
+
+    // Act
+    int partitionCount =
+        partitionMaintenanceService.createUpcomingPartitions(LocalDate.of(2026, 11, 30));
+
+    // Assert
+    assertEquals(2, partitionCount);
+    verify(taskSessionRepository).createMonthlyPartitions(fromMonth, toMonth);
+  }
+}
@@ -0,0 +1,79 @@
+package com.zestark.timewatch.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.zestark.timewatch.domain.model.ReportGranularity;
+import com.zestark.timewatch.domain.model.TaskUsageSummary;
+import com.zestark.timewatch.repository.TaskSessionRepository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for ReportService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReportService単体テスト")
+class ReportServiceTest {
+
+  @Mock
+  private TaskSessionRepository taskSessionRepository;
+
+  @InjectMocks
+  private ReportService reportService;
+
+  @Test
+  @DisplayName("getUsageReport_shouldQueryDateRange_whenRangeGiven")
+  void getUsageReport_shouldQueryDateRange_whenRangeGiven() {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+    TaskUsageSummary usageSummary = mock(TaskUsageSummary.class);
+    when(taskSessionRepository.sumUsageByUser(
+        eq(userId),
+        eq("week"),
+        eq(LocalDate.of(2026, 3, 1)),
+        eq(LocalDate.of(2026, 3, 31)),
+        any(LocalDateTime.class)
+    )).thenReturn(List.of(usageSummary));
+
+    // Act
+    List<TaskUsageSummary> usageSummaryList = reportService.getUsageReport(
+        userId,
+        LocalDate.of(2026, 3, 1),
+        LocalDate.of(2026, 3, 31),
+        ReportGranularity.WEEK
+    );
+
+    // Assert
+    assertEquals(List.of(usageSummary), usageSummaryList);
+  }
+
+  @Test
+  @DisplayName("getUsageReport_shouldThrowException_whenFromIsAfterTo")
+  void getUsageReport_shouldThrowException_whenFromIsAfterTo() {
+    // Act & Assert
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> reportService.getUsageReport(
+            UUID.randomUUID(),
+            LocalDate.of(2026, 3, 2),
+            LocalDate.of(2026, 3, 1),
+            ReportGranularity.DAY
+        )
+    );
+    verifyNoInteractions(taskSessionRepository);
+  }
+}
@@ -0,0 +1,144 @@
+package com.zestark.timewatch.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.zestark.timewatch.domain.model.Task;
+import com.zestark.timewatch.domain.model.TaskEventType;
+import com.zestark.timewatch.domain.model.TaskSession;
+import com.zestark.timewatch.domain.model.TaskStateChangedEvent;
+import com.zestark.timewatch.domain.model.TaskStatus;
+import com.zestark.timewatch.domain.model.User;
+import com.zestark.timewatch.metrics.TaskSessionMetrics;
+import com.zestark.timewatch.repository.TaskSessionRepository;
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+/**
+ * Unit tests for SessionAutoStopService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionAutoStopService単体テスト")
+class SessionAutoStopServiceTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 9, 0);
+
+  @Mock
+  private TaskSessionRepository taskSessionRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private TaskSessionMetrics sessionMetrics;
+
+  @Mock
+  private EntityCacheEvictor cacheEvictor;
+
+  private SessionAutoStopService sessionAutoStopService;
+
+  /**
+   * Helper method to set ID field using reflection.
+   */
+  private void setId(Object entity, UUID id) throws Exception {
+    Field idField = entity.getClass().getDeclaredField("id");
+    idField.setAccessible(true);
+    idField.set(entity, id);
+  }
+
+  private TaskSession createStoppedSession(LocalDateTime startTime) throws Exception {
+    User user = new User();
+    setId(user, UUID.randomUUID());
+    Task task = new Task();
+    setId(task, UUID.randomUUID());
+    task.setUser(user);
+    TaskSession stoppedSession = new TaskSession(task, startTime);
+    setId(stoppedSession, UUID.randomUUID());
+    stoppedSession.setEndTime(startTime.plusHours(24));
+    return stoppedSession;
+  }
+
+  /**
+   * Setup the service before each test.
+   */
+  @BeforeEach
+  void setUp() {
+    sessionAutoStopService = new SessionAutoStopService(
+        taskSessionRepository, eventPublisher, sessionMetrics, cacheEvictor, 24);
+  }
+
+  @Test
+  @DisplayName("stopRunawaySessions_shouldStopInOneStatement_andPublishStopEvents")
+  void stopRunawaySessions_shouldStopInOneStatement_andPublishStopEvents() throws Exception {
+    // Arrange
+    TaskSession firstSession = createStoppedSession(NOW.minusDays(3));
+    TaskSession secondSession = createStoppedSession(NOW.minusHours(25));
+    when(taskSessionRepository.tryLockRunawaySessionSweep()).thenReturn(true);
+    when(taskSessionRepository.stopSessionsRunningLongerThan(NOW, 24))
+        .thenReturn(List.of(firstSession, secondSession));
+
+    // Act
+    List<TaskSession> stoppedSessionList = sessionAutoStopService.stopRunawaySessions(NOW);
+
+    // Assert
+    assertEquals(List.of(firstSession, secondSession), stoppedSessionList);
+    verify(cacheEvictor).evictTasks(
+        List.of(firstSession.getTask().getId(), secondSession.getTask().getId()));
+    verify(sessionMetrics).recordAutoStops(2);
+    ArgumentCaptor<TaskStateChangedEvent> eventCaptor =
+        ArgumentCaptor.forClass(TaskStateChangedEvent.class);
+    verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+    TaskStateChangedEvent firstEvent = eventCaptor.getAllValues().get(0);
+    assertEquals(TaskEventType.STOP, firstEvent.getEventType());
+    assertEquals(TaskStatus.PENDING, firstEvent.getTaskStatus());
+    assertEquals(firstSession.getId(), firstEvent.getSessionId());
+    assertEquals(firstSession.getEndTime(), firstEvent.getOccurredAt());
+  }
+
+  @Test
+  @DisplayName("stopRunawaySessions_shouldDoNothing_whenAnotherInstanceHoldsTheLock")
+  void stopRunawaySessions_shouldDoNothing_whenAnotherInstanceHoldsTheLock() {
+    // Arrange
+    when(taskSessionRepository.tryLockRunawaySessionSweep()).thenReturn(false);
+
+    // Act
+    List<TaskSession> stoppedSessionList = sessionAutoStopService.stopRunawaySessions(NOW);
+
+    // Assert
+    assertTrue(stoppedSessionList.isEmpty());
+    verify(taskSessionRepository, never()).stopSessionsRunningLongerThan(any(), anyInt());
+    verifyNoInteractions(eventPublisher, sessionMetrics, cacheEvictor);
+  }
+
+  @Test
+  @DisplayName("stopRunawaySessions_shouldNotRecordAnything_whenNoSessionExceedsLimit")
+  void stopRunawaySessions_shouldNotRecordAnything_whenNoSessionExceedsLimit() {
+    // Arrange
+    when(taskSessionRepository.tryLockRunawaySessionSweep()).thenReturn(true);
+    when(taskSessionRepository.stopSessionsRunningLongerThan(NOW, 24)).thenReturn(List.of());
+
+    // Act
+    List<TaskSession> stoppedSessionList = sessionAutoStopService.stopRunawaySessions(NOW);
+
+    // Assert
+    assertTrue(stoppedSessionList.isEmpty());
+    verifyNoInteractions(eventPublisher, sessionMetrics, cacheEvictor);
+  }
+}
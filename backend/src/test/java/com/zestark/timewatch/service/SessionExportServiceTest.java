@@ -0,0 +1,153 @@
+package com.zestark.timewatch.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.zestark.timewatch.domain.model.ArchivedSessionRow;
+import com.zestark.timewatch.domain.model.SessionExportRow;
+import com.zestark.timewatch.domain.model.TaskSummary;
+import com.zestark.timewatch.repository.TaskRepository;
+import com.zestark.timewatch.repository.TaskSessionRepository;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Unit tests for SessionExportService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SessionExportService単体テスト")
+class SessionExportServiceTest {
+
+  private static final LocalDate FROM = LocalDate.of(2026, 3, 1);
+  private static final LocalDate TO = LocalDate.of(2026, 3, 31);
+
+  @Mock
+  private TaskSessionRepository taskSessionRepository;
+
+  @Mock
+  private TaskRepository taskRepository;
+
+  @Mock
+  private HistoryArchiveService historyArchiveService;
+
+  @InjectMocks
+  private SessionExportService sessionExportService;
+
+  private SessionExportRow createRow(
+      String taskName,
+      LocalDateTime startTime,
+      LocalDateTime endTime,
+      Long durationSeconds) {
+    SessionExportRow exportRow = mock(SessionExportRow.class);
+    when(exportRow.getSessionId()).thenReturn(UUID.randomUUID());
+    when(exportRow.getTaskId()).thenReturn(UUID.randomUUID());
+    when(exportRow.getTaskName()).thenReturn(taskName);
+    when(exportRow.getStartTime()).thenReturn(startTime);
+    when(exportRow.getEndTime()).thenReturn(endTime);
+    when(exportRow.getDurationSeconds()).thenReturn(durationSeconds);
+    return exportRow;
+  }
+
+  @Test
+  @DisplayName("exportSessionsAsCsv_shouldWriteHeaderAndRows_andCloseStream")
+  void exportSessionsAsCsv_shouldWriteHeaderAndRows_andCloseStream() {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+    SessionExportRow completedRow = createRow("Write \"report\", part 1",
+        LocalDateTime.of(2026, 3, 1, 22, 0), LocalDateTime.of(2026, 3, 2, 2, 0), 14400L);
+    SessionExportRow runningRow = createRow("Review",
+        LocalDateTime.of(2026, 3, 5, 10, 0, 30), null, null);
+    AtomicBoolean streamClosed = new AtomicBoolean(false);
+    AtomicBoolean archivedStreamClosed = new AtomicBoolean(false);
+    when(historyArchiveService.streamSessions(userId, FROM, TO))
+        .thenReturn(Stream.<ArchivedSessionRow>empty()
+            .onClose(() -> archivedStreamClosed.set(true)));
+    when(taskSessionRepository.streamSessionsForExport(userId, FROM, TO))
+        .thenReturn(Stream.of(completedRow, runningRow).onClose(() -> streamClosed.set(true)));
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // Act
+    sessionExportService.exportSessionsAsCsv(userId, FROM, TO, outputStream);
+
+    // Assert
+    String[] csvLines = outputStream.toString(StandardCharsets.UTF_8).split("\r\n");
+    assertEquals(3, csvLines.length);
+    assertEquals(
+        "\uFEFFsession_id,task_id,task_name,start_time,end_time,duration_seconds",
+        csvLines[0]);
+    assertEquals(completedRow.getSessionId() + "," + completedRow.getTaskId()
+        + ",\"Write \"\"report\"\", part 1\",2026-03-01T22:00:00,2026-03-02T02:00:00,14400",
+        csvLines[1]);
+    assertEquals(runningRow.getSessionId() + "," + runningRow.getTaskId()
+        + ",Review,2026-03-05T10:00:30,,", csvLines[2]);
+    assertTrue(streamClosed.get());
+    assertTrue(archivedStreamClosed.get());
+    verify(taskRepository, never()).findSummariesByUserId(any(), any());
+  }
+
+  @Test
+  @DisplayName("exportSessionsAsCsv_shouldMergeArchivedRowsInOrder_andWriteDuplicatesOnce")
+  void exportSessionsAsCsv_shouldMergeArchivedRowsInOrder_andWriteDuplicatesOnce() {
+    // Arrange
+    UUID userId = UUID.randomUUID();
+    UUID taskId = UUID.randomUUID();
+    UUID archivedSessionId = UUID.randomUUID();
+    ArchivedSessionRow archivedRow = mock(ArchivedSessionRow.class);
+    when(archivedRow.getId()).thenReturn(archivedSessionId);
+    when(archivedRow.getTaskId()).thenReturn(taskId);
+    when(archivedRow.getStartTime()).thenReturn(LocalDateTime.of(2026, 3, 1, 9, 0));
+    when(archivedRow.getEndTime()).thenReturn(LocalDateTime.of(2026, 3, 1, 9, 30, 0, 600_000_000));
+    ArchivedSessionRow deletedTaskRow = mock(ArchivedSessionRow.class);
+    when(deletedTaskRow.getTaskId()).thenReturn(UUID.randomUUID());
+    when(deletedTaskRow.getStartTime()).thenReturn(LocalDateTime.of(2026, 3, 2, 9, 0));
+    SessionExportRow databaseRow = createRow("Review",
+        LocalDateTime.of(2026, 3, 5, 10, 0), LocalDateTime.of(2026, 3, 5, 11, 0), 3600L);
+    SessionExportRow restoredRow = createRow("Restored",
+        LocalDateTime.of(2026, 3, 20, 10, 0), LocalDateTime.of(2026, 3, 20, 11, 0), 3600L);
+    UUID restoredSessionId = restoredRow.getSessionId();
+    ArchivedSessionRow duplicateRow = mock(ArchivedSessionRow.class);
+    when(duplicateRow.getId()).thenReturn(restoredSessionId);
+    when(duplicateRow.getStartTime()).thenReturn(LocalDateTime.of(2026, 3, 20, 10, 0));
+    TaskSummary taskSummary = mock(TaskSummary.class);
+    when(taskSummary.getId()).thenReturn(taskId);
+    when(taskSummary.getTaskName()).thenReturn("Archived task");
+    when(historyArchiveService.streamSessions(userId, FROM, TO))
+        .thenReturn(Stream.of(archivedRow, deletedTaskRow, duplicateRow));
+    when(taskRepository.findSummariesByUserId(userId, Pageable.unpaged()))
+        .thenReturn(new PageImpl<>(List.of(taskSummary)));
+    when(taskSessionRepository.streamSessionsForExport(userId, FROM, TO))
+        .thenReturn(Stream.of(databaseRow, restoredRow));
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+    // Act
+    sessionExportService.exportSessionsAsCsv(userId, FROM, TO, outputStream);
+
+    // Assert
+    String[] csvLines = outputStream.toString(StandardCharsets.UTF_8).split("\r\n");
+    assertEquals(4, csvLines.length);
+    assertEquals(archivedSessionId + "," + taskId
+        + ",Archived task,2026-03-01T09:00:00,2026-03-01T09:30:00.6,1801", csvLines[1]);
+    assertTrue(csvLines[2].startsWith(databaseRow.getSessionId().toString()));
+    assertTrue(csvLines[3].startsWith(restoredSessionId + ","));
+    assertTrue(csvLines[3].contains(",Restored,"));
+  }
+}
@@ -0,0 +1,204 @@
+package com.zestark.timewatch.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.zestark.timewatch.domain.model.TaskEventType;
+import com.zestark.timewatch.domain.model.TaskStateChangedEvent;
+import com.zestark.timewatch.domain.model.TaskStatus;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Unit tests for TaskEventStreamService.
+ */
+@DisplayName("TaskEventStreamService単体テスト")
+class TaskEventStreamServiceTest {
+
+  private static final int BUFFER_CAPACITY = 3;
+
+  private List<Runnable> submittedTaskList;
+  private TaskEventStreamService taskEventStreamService;
+  private UUID userId;
+
+  /**
+   * Setup the service with an executor that only records submitted drains.
+   */
+  @BeforeEach
+  void setUp() {
+    submittedTaskList = new ArrayList<>();
+    taskEventStreamService =
+        new TaskEventStreamService(submittedTaskList::add, 60000L, BUFFER_CAPACITY);
+    userId = UUID.randomUUID();
+  }
+
+  private TaskStateChangedEvent createEvent(UUID eventUserId) {
+    return new TaskStateChangedEvent(
+        eventUserId,
+        UUID.randomUUID(),
+        TaskEventType.START,
+        TaskStatus.RUNNING,
+        UUID.randomUUID(),
+        LocalDateTime.now()
+    );
+  }
+
+  @Test
+  @DisplayName("subscribe_shouldRegisterSubscriber_andScheduleInitialSend")
+  void subscribe_shouldRegisterSubscriber_andScheduleInitialSend() {
+    // Act
+    SseEmitter emitter = taskEventStreamService.subscribe(userId);
+
+    // Assert
+    assertNotNull(emitter);
+    assertEquals(1, taskEventStreamService.getSubscriberCount(userId));
+    assertEquals(1, submittedTaskList.size());
+  }
+
+  @Test
+  @DisplayName("onTaskStateChanged_shouldScheduleSingleDrain_whenDrainIsPending")
+  void onTaskStateChanged_shouldScheduleSingleDrain_whenDrainIsPending() {
+    // Arrange
+    taskEventStreamService.subscribe(userId);
+
+    // Act
+    taskEventStreamService.onTaskStateChanged(createEvent(userId));
+
+    // Assert
+    assertEquals(1, submittedTaskList.size());
+    assertEquals(1, taskEventStreamService.getSubscriberCount(userId));
+  }
+
+  @Test
+  @DisplayName("onTaskStateChanged_shouldDisconnectSubscriber_whenBufferOverflows")
+  void onTaskStateChanged_shouldDisconnectSubscriber_whenBufferOverflows() {
+    // Arrange
+    taskEventStreamService.subscribe(userId);
+
+    // Act
+    for (int i = 0; i < BUFFER_CAPACITY; i++) {
+      taskEventStreamService.onTaskStateChanged(createEvent(userId));
+    }
+
+    // Assert
+    assertEquals(0, taskEventStreamService.getSubscriberCount(userId));
+  }
+
+  @Test
+  @DisplayName("onTaskStateChanged_shouldLeaveCompletionToDrain_whenBufferOverflows")
+  void onTaskStateChanged_shouldLeaveCompletionToDrain_whenBufferOverflows() {
+    // Arrange
+    SseEmitter emitter = taskEventStreamService.subscribe(userId);
+
+    // Act
+    for (int i = 0; i < BUFFER_CAPACITY; i++) {
+      taskEventStreamService.onTaskStateChanged(createEvent(userId));
+    }
+
+    // Assert
+    assertDoesNotThrow(() -> emitter.send(SseEmitter.event().comment("still open")));
+    assertEquals(1, submittedTaskList.size());
+    submittedTaskList.remove(0).run();
+    assertThrows(
+        IllegalStateException.class,
+        () -> emitter.send(SseEmitter.event().comment("completed"))
+    );
+  }
+
+  @Test
+  @DisplayName("onTaskStateChanged_shouldKeepSubscriber_whenBufferIsDrained")
+  void onTaskStateChanged_shouldKeepSubscriber_whenBufferIsDrained() {
+    // Arrange
+    taskEventStreamService.subscribe(userId);
+
+    // Act
+    for (int i = 0; i < BUFFER_CAPACITY * 2; i++) {
+      taskEventStreamService.onTaskStateChanged(createEvent(userId));
+      submittedTaskList.remove(0).run();
+    }
+
+    // Assert
+    assertEquals(1, taskEventStreamService.getSubscriberCount(userId));
+    assertTrue(submittedTaskList.isEmpty());
+  }
+
+  @Test
+  @DisplayName("onTaskStateChanged_shouldIgnoreEvent_whenUserHasNoSubscribers")
+  void onTaskStateChanged_shouldIgnoreEvent_whenUserHasNoSubscribers() {
+    // Arrange
+    taskEventStreamService.subscribe(userId);
+    submittedTaskList.clear();
+
+    // Act
+    taskEventStreamService.onTaskStateChanged(createEvent(UUID.randomUUID()));
+
+    // Assert
+    assertTrue(submittedTaskList.isEmpty());
+    assertEquals(1, taskEventStreamService.getSubscriberCount(userId));
+  }
+
+  @Test
+  @DisplayName("subscribe_shouldDisconnectSubscriber_whenNoSendThreadIsAvailable")
+  void subscribe_shouldDisconnectSubscriber_whenNoSendThreadIsAvailable() {
+    // Arrange
+    TaskEventStreamService saturatedService = new TaskEventStreamService(
+        task -> {
+          throw new RejectedExecutionException("All send threads are busy");
+        },
+        60000L,
+        BUFFER_CAPACITY);
+
+    // Act
+    saturatedService.subscribe(userId);
+
+    // Assert
+    assertEquals(0, saturatedService.getSubscriberCount(userId));
+  }
+
+  @Test
+  @DisplayName("subscribe_shouldCompleteEmitter_whenSendPoolIsSaturated")
+  void subscribe_shouldCompleteEmitter_whenSendPoolIsSaturated() throws Exception {
+    // Arrange
+    ThreadPoolExecutor sendExecutor = new ThreadPoolExecutor(
+        0, 1, 1, TimeUnit.MINUTES, new SynchronousQueue<>());
+    CountDownLatch releaseSendThread = new CountDownLatch(1);
+    sendExecutor.execute(() -> {
+      try {
+        releaseSendThread.await();
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+    });
+    TaskEventStreamService saturatedService =
+        new TaskEventStreamService(sendExecutor, 60000L, BUFFER_CAPACITY);
+
+    try {
+      // Act
+      SseEmitter emitter = saturatedService.subscribe(userId);
+
+      // Assert
+      assertEquals(0, saturatedService.getSubscriberCount(userId));
+      assertThrows(
+          IllegalStateException.class,
+          () -> emitter.send(SseEmitter.event().comment("completed"))
+      );
+    } finally {
+      releaseSendThread.countDown();
+      sendExecutor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,198 @@
+package com.zestark.timewatch.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.zestark.timewatch.domain.model.Task;
+import com.zestark.timewatch.domain.model.TaskEvent;
+import com.zestark.timewatch.domain.model.TaskEventType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import java.lang.reflect.Field;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.exception.ConstraintViolationException;
+import org.hibernate.query.NativeQuery;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Unit tests for TaskEventWriter.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskEventWriter単体テスト")
+class TaskEventWriterTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 9, 0);
+
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private Query query;
+
+  @Mock
+  private NativeQuery<Object> nativeQuery;
+
+  private TaskEventWriter taskEventWriter;
+
+  /**
+   * Helper method to set ID field using reflection.
+   */
+  private void setId(Object entity, UUID id) throws Exception {
+    Field idField = entity.getClass().getDeclaredField("id");
+    idField.setAccessible(true);
+    idField.set(entity, id);
+  }
+
+  private Task createTask() throws Exception {
+    Task task = new Task();
+    setId(task, UUID.randomUUID());
+    return task;
+  }
+
+  private void commit() {
+    List<TransactionSynchronization> synchronizationList =
+        TransactionSynchronizationManager.getSynchronizations();
+    synchronizationList.forEach(synchronization -> synchronization.beforeCommit(false));
+    synchronizationList.forEach(synchronization ->
+        synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+  }
+
+  /**
+   * Setup the writer and a transaction before each test.
+   */
+  @BeforeEach
+  void setUp() {
+    taskEventWriter = new TaskEventWriter(entityManager);
+    TransactionSynchronizationManager.initSynchronization();
+  }
+
+  /**
+   * Clears the transaction after each test.
+   */
+  @AfterEach
+  void tearDown() {
+    TransactionSynchronizationManager.unbindResourceIfPossible(taskEventWriter);
+    TransactionSynchronizationManager.clearSynchronization();
+  }
+
+  @Test
+  @DisplayName("appendAll_shouldWriteEventsInAppendOrderWithOneInsert_whenTransactionCommits")
+  void appendAll_shouldWriteEventsInAppendOrderWithOneInsert_whenTransactionCommits()
+      throws Exception {
+    // Arrange
+    Task firstTask = createTask();
+    Task secondTask = createTask();
+    when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+    when(query.unwrap(NativeQuery.class)).thenReturn(nativeQuery);
+    taskEventWriter.appendAll(List.of(
+        new TaskEvent(firstTask, TaskEventType.START, NOW),
+        new TaskEvent(secondTask, TaskEventType.START, NOW)));
+    taskEventWriter.append(new TaskEvent(firstTask, TaskEventType.STOP, NOW.plusMinutes(5)));
+    verifyNoInteractions(entityManager);
+
+    // Act
+    commit();
+
+    // Assert
+    ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+    InOrder inOrder = inOrder(entityManager, nativeQuery);
+    inOrder.verify(entityManager).flush();
+    inOrder.verify(entityManager).createNativeQuery(sqlCaptor.capture());
+    inOrder.verify(nativeQuery).addSynchronizedQuerySpace("task_events");
+    inOrder.verify(nativeQuery).executeUpdate();
+    assertEquals("INSERT INTO task_events (id, task_id, event_type, occurred_at) VALUES "
+        + "(?1, ?2, ?3, ?4), (?5, ?6, ?7, ?8), (?9, ?10, ?11, ?12)", sqlCaptor.getValue());
+    verify(nativeQuery).setParameter(2, firstTask.getId());
+    verify(nativeQuery).setParameter(3, "START");
+    verify(nativeQuery).setParameter(6, secondTask.getId());
+    verify(nativeQuery).setParameter(10, firstTask.getId());
+    verify(nativeQuery).setParameter(11, "STOP");
+    verify(nativeQuery).setParameter(12, NOW.plusMinutes(5));
+    assertFalse(TransactionSynchronizationManager.hasResource(taskEventWriter));
+  }
+
+  @Test
+  @DisplayName("appendAll_shouldSplitInsert_whenEventsExceedRowsPerStatement")
+  void appendAll_shouldSplitInsert_whenEventsExceedRowsPerStatement() throws Exception {
+    // Arrange
+    Task task = createTask();
+    List<TaskEvent> taskEventList = new ArrayList<>();
+    for (int i = 0; i <= TaskEventWriter.MAX_ROWS_PER_STATEMENT; i++) {
+      taskEventList.add(new TaskEvent(task, TaskEventType.START, NOW.plusSeconds(i)));
+    }
+    when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+    when(query.unwrap(NativeQuery.class)).thenReturn(nativeQuery);
+    taskEventWriter.appendAll(taskEventList);
+
+    // Act
+    commit();
+
+    // Assert
+    verify(entityManager, times(2)).createNativeQuery(anyString());
+    verify(nativeQuery, times(2)).executeUpdate();
+    verify(nativeQuery).setParameter(4, NOW.plusSeconds(TaskEventWriter.MAX_ROWS_PER_STATEMENT));
+  }
+
+  @Test
+  @DisplayName("appendAll_shouldTranslateFailure_whenInsertViolatesConstraint")
+  void appendAll_shouldTranslateFailure_whenInsertViolatesConstraint() throws Exception {
+    // Arrange
+    when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+    when(query.unwrap(NativeQuery.class)).thenReturn(nativeQuery);
+    when(nativeQuery.executeUpdate()).thenThrow(new ConstraintViolationException(
+        "insert violates foreign key", new SQLException("fk", "23503"), "fk_task_events_task"));
+    taskEventWriter.append(new TaskEvent(createTask(), TaskEventType.START, NOW));
+
+    // Act & Assert
+    assertThrows(DataIntegrityViolationException.class, this::commit);
+  }
+
+  @Test
+  @DisplayName("appendAll_shouldWriteNothing_whenTransactionRollsBack")
+  void appendAll_shouldWriteNothing_whenTransactionRollsBack() throws Exception {
+    // Arrange
+    taskEventWriter.append(new TaskEvent(createTask(), TaskEventType.START, NOW));
+
+    // Act
+    TransactionSynchronizationManager.getSynchronizations().forEach(synchronization ->
+        synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    // Assert
+    verifyNoInteractions(entityManager);
+    assertFalse(TransactionSynchronizationManager.hasResource(taskEventWriter));
+  }
+
+  @Test
+  @DisplayName("append_shouldThrowException_whenNoTransactionIsActive")
+  void append_shouldThrowException_whenNoTransactionIsActive() throws Exception {
+    // Arrange
+    TransactionSynchronizationManager.clearSynchronization();
+    TaskEvent taskEvent = new TaskEvent(createTask(), TaskEventType.START, NOW);
+
+    // Act & Assert
+    assertThrows(IllegalStateException.class, () -> taskEventWriter.append(taskEvent));
+    TransactionSynchronizationManager.initSynchronization();
+  }
+}
@@ -1,18 +1,25 @@
 package com.zestark.timewatch.service;
 
+import static com.zestark.timewatch.support.StatementBudget.assertStatementsAtMost;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.zestark.timewatch.domain.model.Task;
+import com.zestark.timewatch.domain.model.TaskEvent;
+import com.zestark.timewatch.domain.model.TaskEventType;
+import com.zestark.timewatch.domain.model.TaskStateChangedEvent;
 import com.zestark.timewatch.domain.model.TaskStatus;
+import com.zestark.timewatch.domain.model.TaskSummary;
 import com.zestark.timewatch.domain.model.User;
 import com.zestark.timewatch.exception.ResourceNotFoundException;
-import com.zestark.timewatch.repository.TaskEventRepository;
 import com.zestark.timewatch.repository.TaskRepository;
+import com.zestark.timewatch.repository.UserRepository;
 import java.lang.reflect.Field;
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -23,9 +30,17 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 /**
  * Unit tests for TaskService.
@@ -38,7 +53,13 @@ class TaskServiceTest {
   private TaskRepository taskRepository;
 
   @Mock
-  private TaskEventRepository taskEventRepository;
+  private TaskEventWriter taskEventWriter;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
 
   @InjectMocks
   private TaskService taskService;
@@ -79,14 +100,37 @@ class TaskServiceTest {
     // Arrange
     String taskName = "New Task";
     String description = "New Description";
-    when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+    when(userRepository.getReferenceById(testUser.getId())).thenReturn(testUser);
+    when(taskRepository.saveAndFlush(any(Task.class))).thenReturn(testTask);
 
     // Act
-    Task createdTask = taskService.createTask(testUser, taskName, description);
+    Task createdTask = taskService.createTask(testUser.getId(), taskName, description);
 
     // Assert
     assertNotNull(createdTask);
-    verify(taskRepository).save(any(Task.class));
+    ArgumentCaptor<Task> taskCaptor = ArgumentCaptor.forClass(Task.class);
+    verify(taskRepository).saveAndFlush(taskCaptor.capture());
+    assertEquals(testUser, taskCaptor.getValue().getUser());
+    assertEquals(taskName, taskCaptor.getValue().getTaskName());
+    verify(userRepository, never()).findById(any());
+    assertStatementsAtMost(1, taskRepository, taskEventWriter, userRepository);
+  }
+
+  @Test
+  @DisplayName("createTask_shouldPropagateIntegrityViolation_whenUserDoesNotExist")
+  void createTask_shouldPropagateIntegrityViolation_whenUserDoesNotExist() {
+    // Arrange
+    UUID unknownUserId = UUID.randomUUID();
+    User userReference = new User();
+    when(userRepository.getReferenceById(unknownUserId)).thenReturn(userReference);
+    when(taskRepository.saveAndFlush(any(Task.class)))
+        .thenThrow(new DataIntegrityViolationException("fk_tasks_user_id"));
+
+    // Act & Assert
+    assertThrows(
+        DataIntegrityViolationException.class,
+        () -> taskService.createTask(unknownUserId, "New Task", null)
+    );
   }
 
   @Test
@@ -120,49 +164,49 @@ class TaskServiceTest {
 
   @Test
   @DisplayName("getTasksByUser_shouldReturnTaskList_whenUserHasTasks")
-  void getTasksByUser_shouldReturnTaskList_whenUserHasTasks() throws Exception {
+  void getTasksByUser_shouldReturnTaskList_whenUserHasTasks() {
     // Arrange
-    Task anotherTask = new Task();
-    setId(anotherTask, UUID.randomUUID());
-    anotherTask.setUser(testUser);
-    anotherTask.setTaskName("Another Task");
-    anotherTask.setStatus(TaskStatus.PENDING);
+    TaskSummary firstTask = mock(TaskSummary.class);
+    TaskSummary anotherTask = mock(TaskSummary.class);
 
-    List<Task> expectedTasks = Arrays.asList(testTask, anotherTask);
-    when(taskRepository.findByUser(testUser)).thenReturn(expectedTasks);
+    List<TaskSummary> expectedTasks = Arrays.asList(firstTask, anotherTask);
+    Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "updatedAt"));
+    when(taskRepository.findSummariesByUserId(testUser.getId(), pageable))
+        .thenReturn(new PageImpl<>(expectedTasks, pageable, 2));
 
     // Act
-    List<Task> actualTasks = taskService.getTasksByUser(testUser);
+    Page<TaskSummary> actualTasks = taskService.getTasksByUser(testUser.getId(), pageable);
 
     // Assert
     assertNotNull(actualTasks);
-    assertEquals(2, actualTasks.size());
-    assertEquals(expectedTasks, actualTasks);
-    verify(taskRepository).findByUser(testUser);
+    assertEquals(2, actualTasks.getTotalElements());
+    assertEquals(expectedTasks, actualTasks.getContent());
+    verify(taskRepository).findSummariesByUserId(testUser.getId(), pageable);
   }
 
   @Test
   @DisplayName("getTasksByUserAndStatus_shouldReturnFilteredList_whenCalled")
-  void getTasksByUserAndStatus_shouldReturnFilteredList_whenCalled() throws Exception {
+  void getTasksByUserAndStatus_shouldReturnFilteredList_whenCalled() {
     // Arrange
-    Task runningTask = new Task();
-    setId(runningTask, UUID.randomUUID());
-    runningTask.setUser(testUser);
-    runningTask.setTaskName("Running Task");
-    runningTask.setStatus(TaskStatus.RUNNING);
+    TaskSummary runningTask = mock(TaskSummary.class);
+    when(runningTask.getStatus()).thenReturn(TaskStatus.RUNNING);
 
-    List<Task> expectedTasks = Arrays.asList(runningTask);
-    when(taskRepository.findByUserAndStatus(testUser, TaskStatus.RUNNING))
-        .thenReturn(expectedTasks);
+    List<TaskSummary> expectedTasks = Arrays.asList(runningTask);
+    List<TaskStatus> statusList = List.of(TaskStatus.RUNNING);
+    Pageable pageable = PageRequest.of(0, 20);
+    when(taskRepository.findSummariesByUserIdAndStatusIn(testUser.getId(), statusList, pageable))
+        .thenReturn(new PageImpl<>(expectedTasks, pageable, 1));
 
     // Act
-    List<Task> actualTasks = taskService.getTasksByUserAndStatus(testUser, TaskStatus.RUNNING);
+    Page<TaskSummary> actualTasks =
+        taskService.getTasksByUserAndStatus(testUser.getId(), statusList, pageable);
 
     // Assert
     assertNotNull(actualTasks);
-    assertEquals(1, actualTasks.size());
-    assertEquals(TaskStatus.RUNNING, actualTasks.get(0).getStatus());
-    verify(taskRepository).findByUserAndStatus(testUser, TaskStatus.RUNNING);
+    assertEquals(1, actualTasks.getContent().size());
+    assertEquals(TaskStatus.RUNNING, actualTasks.getContent().get(0).getStatus());
+    verify(taskRepository)
+        .findSummariesByUserIdAndStatusIn(testUser.getId(), statusList, pageable);
   }
 
   @Test
@@ -210,7 +254,29 @@ class TaskServiceTest {
     // Assert
     assertNotNull(updatedTask);
     verify(taskRepository).save(testTask);
-    verify(taskEventRepository).save(any());
+    verify(taskEventWriter).append(any(TaskEvent.class));
+    ArgumentCaptor<TaskStateChangedEvent> eventCaptor =
+        ArgumentCaptor.forClass(TaskStateChangedEvent.class);
+    verify(eventPublisher).publishEvent(eventCaptor.capture());
+    assertEquals(testUser.getId(), eventCaptor.getValue().getUserId());
+    assertEquals(TaskEventType.COMPLETE, eventCaptor.getValue().getEventType());
+    assertEquals(TaskStatus.COMPLETED, eventCaptor.getValue().getTaskStatus());
+    assertStatementsAtMost(3, taskRepository, taskEventWriter, userRepository);
+  }
+
+  @Test
+  @DisplayName("changeTaskStatus_shouldNotPublishEvent_whenNoEventIsRecorded")
+  void changeTaskStatus_shouldNotPublishEvent_whenNoEventIsRecorded() {
+    // Arrange
+    when(taskRepository.findById(testTask.getId())).thenReturn(Optional.of(testTask));
+    when(taskRepository.save(any(Task.class))).thenReturn(testTask);
+
+    // Act
+    taskService.changeTaskStatus(testTask.getId(), TaskStatus.PENDING);
+
+    // Assert
+    verify(taskEventWriter, never()).append(any());
+    verify(eventPublisher, never()).publishEvent(any());
   }
 
   @Test
@@ -5,32 +5,49 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static com.zestark.timewatch.support.StatementBudget.assertStatementsAtMost;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import com.zestark.timewatch.domain.model.SessionCursor;
 import com.zestark.timewatch.domain.model.Task;
-import com.zestark.timewatch.domain.model.TaskEvent;
-import com.zestark.timewatch.domain.model.TaskSession;
-import com.zestark.timewatch.domain.model.User;
 import com.zestark.timewatch.domain.model.TaskEventType;
+import com.zestark.timewatch.domain.model.TaskSession;
+import com.zestark.timewatch.domain.model.TaskSessionBatchResult;
+import com.zestark.timewatch.domain.model.TaskSessionSummary;
+import com.zestark.timewatch.domain.model.TaskSessionSwitchResult;
+import com.zestark.timewatch.domain.model.TaskStateChangedEvent;
 import com.zestark.timewatch.domain.model.TaskStatus;
+import com.zestark.timewatch.domain.model.User;
 import com.zestark.timewatch.exception.ResourceNotFoundException;
 import com.zestark.timewatch.exception.TaskSessionConflictException;
-import com.zestark.timewatch.repository.TaskEventRepository;
+import com.zestark.timewatch.metrics.TaskSessionMetrics;
 import com.zestark.timewatch.repository.TaskRepository;
 import com.zestark.timewatch.repository.TaskSessionRepository;
 import java.lang.reflect.Field;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 
 /**
@@ -47,7 +64,16 @@ class TaskSessionServiceTest {
   private TaskRepository taskRepository;
 
   @Mock
-  private TaskEventRepository taskEventRepository;
+  private TaskEventWriter taskEventWriter;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private TaskSessionMetrics sessionMetrics;
+
+  @Mock
+  private EntityCacheEvictor cacheEvictor;
 
   @InjectMocks
   private TaskSessionService taskSessionService;
@@ -82,20 +108,24 @@ class TaskSessionServiceTest {
     testTask.setDescription("Test Description");
     testTask.setStatus(TaskStatus.PENDING);
 
-    testSession = new TaskSession();
+    testSession = new TaskSession(testTask, LocalDateTime.now().minusMinutes(10));
     setId(testSession, UUID.randomUUID());
-    testSession.setTask(testTask);
-    testSession.setStartTime(LocalDateTime.now().minusMinutes(10));
+  }
+
+  /**
+   * Asserts the number of statements issued through all repositories.
+   */
+  private void assertRepositoryStatementsAtMost(int maxStatements) {
+    assertStatementsAtMost(
+        maxStatements, taskSessionRepository, taskRepository, taskEventWriter);
   }
 
   @Test
   @DisplayName("startTaskSession_shouldCreateNewSession_whenNoRunningSessionExists")
   void startTaskSession_shouldCreateNewSession_whenNoRunningSessionExists() {
     // Arrange
-    when(taskRepository.findById(testTask.getId())).thenReturn(Optional.of(testTask));
-    when(taskSessionRepository.findRunningSessionByTask(testTask))
-        .thenReturn(Optional.empty());
-    when(taskSessionRepository.save(any(TaskSession.class))).thenReturn(testSession);
+    when(taskSessionRepository.startSession(eq(testTask.getId()), any(LocalDateTime.class)))
+        .thenReturn(Optional.of(testSession));
 
     // Act
     TaskSession createdSession = taskSessionService.startTaskSession(testTask.getId());
@@ -104,10 +134,17 @@ class TaskSessionServiceTest {
     assertNotNull(createdSession);
     assertEquals(testTask.getId(), createdSession.getTask().getId());
     assertTrue(createdSession.isRunning());
-    assertEquals(TaskStatus.RUNNING, testTask.getStatus());
-    verify(taskRepository).save(testTask);
-    verify(taskEventRepository).save(any(TaskEvent.class));
-    verify(taskSessionRepository).save(any(TaskSession.class));
+    verify(taskSessionRepository).startSession(eq(testTask.getId()), any(LocalDateTime.class));
+    verifyNoMoreInteractions(taskSessionRepository);
+    verifyNoInteractions(taskRepository);
+    assertRepositoryStatementsAtMost(1);
+    verify(cacheEvictor).evictTask(testTask.getId());
+    ArgumentCaptor<TaskStateChangedEvent> eventCaptor =
+        ArgumentCaptor.forClass(TaskStateChangedEvent.class);
+    verify(eventPublisher).publishEvent(eventCaptor.capture());
+    assertEquals(testUser.getId(), eventCaptor.getValue().getUserId());
+    assertEquals(TaskEventType.START, eventCaptor.getValue().getEventType());
+    assertEquals(TaskStatus.RUNNING, eventCaptor.getValue().getTaskStatus());
   }
 
   @Test
@@ -115,7 +152,8 @@ class TaskSessionServiceTest {
   void startTaskSession_shouldThrowException_whenTaskNotFound() {
     // Arrange
     UUID nonExistentTaskId = UUID.randomUUID();
-    when(taskRepository.findById(nonExistentTaskId)).thenReturn(Optional.empty());
+    when(taskSessionRepository.startSession(eq(nonExistentTaskId), any(LocalDateTime.class)))
+        .thenReturn(Optional.empty());
 
     // Act & Assert
     assertThrows(
@@ -124,34 +162,11 @@ class TaskSessionServiceTest {
     );
   }
 
-  @Test
-  @DisplayName("startTaskSession_shouldThrowException_whenRunningSessionAlreadyExists")
-  void startTaskSession_shouldThrowException_whenRunningSessionAlreadyExists() throws Exception {
-    // Arrange
-    TaskSession existingRunningSession = new TaskSession();
-    setId(existingRunningSession, UUID.randomUUID());
-    existingRunningSession.setTask(testTask);
-    existingRunningSession.setStartTime(LocalDateTime.now().minusMinutes(5));
-
-    when(taskRepository.findById(testTask.getId())).thenReturn(Optional.of(testTask));
-    when(taskSessionRepository.findRunningSessionByTask(testTask))
-        .thenReturn(Optional.of(existingRunningSession));
-
-    // Act & Assert
-    assertThrows(
-        TaskSessionConflictException.class,
-        () -> taskSessionService.startTaskSession(testTask.getId())
-    );
-  }
-
   @Test
   @DisplayName("startTaskSession_shouldThrowException_whenDatabaseConstraintViolated")
   void startTaskSession_shouldThrowException_whenDatabaseConstraintViolated() {
     // Arrange
-    when(taskRepository.findById(testTask.getId())).thenReturn(Optional.of(testTask));
-    when(taskSessionRepository.findRunningSessionByTask(testTask))
-        .thenReturn(Optional.empty());
-    when(taskSessionRepository.save(any(TaskSession.class)))
+    when(taskSessionRepository.startSession(eq(testTask.getId()), any(LocalDateTime.class)))
         .thenThrow(new DataIntegrityViolationException("Unique constraint violation"));
 
     // Act & Assert
@@ -159,17 +174,19 @@ class TaskSessionServiceTest {
         TaskSessionConflictException.class,
         () -> taskSessionService.startTaskSession(testTask.getId())
     );
+    verify(eventPublisher, never()).publishEvent(any());
+    verify(sessionMetrics).recordConflict(TaskSessionMetrics.START);
+    verify(sessionMetrics, never()).recordConstraintRace(any());
+    verifyNoInteractions(cacheEvictor);
   }
 
   @Test
   @DisplayName("stopTaskSession_shouldEndSession_whenRunningSessionExists")
   void stopTaskSession_shouldEndSession_whenRunningSessionExists() {
     // Arrange
-    testSession.setEndTime(null); // Running session
-    when(taskRepository.findById(testTask.getId())).thenReturn(Optional.of(testTask));
-    when(taskSessionRepository.findRunningSessionByTask(testTask))
+    testSession.setEndTime(LocalDateTime.now());
+    when(taskSessionRepository.stopSession(eq(testTask.getId()), any(LocalDateTime.class)))
         .thenReturn(Optional.of(testSession));
-    when(taskSessionRepository.save(any(TaskSession.class))).thenReturn(testSession);
 
     // Act
     TaskSession stoppedSession = taskSessionService.stopTaskSession(testTask.getId());
@@ -178,10 +195,16 @@ class TaskSessionServiceTest {
     assertNotNull(stoppedSession);
     assertNotNull(stoppedSession.getEndTime());
     assertFalse(stoppedSession.isRunning());
-    assertEquals(TaskStatus.PENDING, testTask.getStatus());
-    verify(taskRepository).save(testTask);
-    verify(taskEventRepository).save(any(TaskEvent.class));
-    verify(taskSessionRepository).save(testSession);
+    verify(taskSessionRepository).stopSession(eq(testTask.getId()), any(LocalDateTime.class));
+    verifyNoMoreInteractions(taskSessionRepository);
+    verifyNoInteractions(taskRepository);
+    assertRepositoryStatementsAtMost(1);
+    verify(cacheEvictor).evictTask(testTask.getId());
+    ArgumentCaptor<TaskStateChangedEvent> eventCaptor =
+        ArgumentCaptor.forClass(TaskStateChangedEvent.class);
+    verify(eventPublisher).publishEvent(eventCaptor.capture());
+    assertEquals(TaskEventType.STOP, eventCaptor.getValue().getEventType());
+    assertEquals(testSession.getEndTime(), eventCaptor.getValue().getOccurredAt());
   }
 
   @Test
@@ -189,7 +212,9 @@ class TaskSessionServiceTest {
   void stopTaskSession_shouldThrowException_whenTaskNotFound() {
     // Arrange
     UUID nonExistentTaskId = UUID.randomUUID();
-    when(taskRepository.findById(nonExistentTaskId)).thenReturn(Optional.empty());
+    when(taskSessionRepository.stopSession(eq(nonExistentTaskId), any(LocalDateTime.class)))
+        .thenReturn(Optional.empty());
+    when(taskRepository.existsById(nonExistentTaskId)).thenReturn(false);
 
     // Act & Assert
     assertThrows(
@@ -202,15 +227,205 @@ class TaskSessionServiceTest {
   @DisplayName("stopTaskSession_shouldThrowException_whenNoRunningSessionExists")
   void stopTaskSession_shouldThrowException_whenNoRunningSessionExists() {
     // Arrange
-    when(taskRepository.findById(testTask.getId())).thenReturn(Optional.of(testTask));
-    when(taskSessionRepository.findRunningSessionByTask(testTask))
+    when(taskSessionRepository.stopSession(eq(testTask.getId()), any(LocalDateTime.class)))
         .thenReturn(Optional.empty());
+    when(taskRepository.existsById(testTask.getId())).thenReturn(true);
 
     // Act & Assert
     assertThrows(
         TaskSessionConflictException.class,
         () -> taskSessionService.stopTaskSession(testTask.getId())
     );
+    verify(sessionMetrics).recordConflict(TaskSessionMetrics.STOP);
+  }
+
+  @Test
+  @DisplayName("switchTaskSession_shouldStartAtSameInstantAsStop_whenOtherSessionIsRunning")
+  void switchTaskSession_shouldStartAtSameInstantAsStop_whenOtherSessionIsRunning() {
+    // Arrange
+    UUID targetTaskId = UUID.randomUUID();
+    testSession.setEndTime(LocalDateTime.now());
+    TaskSession startedSession = new TaskSession(testTask, LocalDateTime.now());
+    when(taskSessionRepository.stopOtherSessionsOfTaskOwner(eq(targetTaskId),
+        any(LocalDateTime.class))).thenReturn(List.of(testSession));
+    when(taskSessionRepository.startSession(eq(targetTaskId), any(LocalDateTime.class)))
+        .thenReturn(Optional.of(startedSession));
+
+    // Act
+    TaskSessionSwitchResult switchResult = taskSessionService.switchTaskSession(targetTaskId);
+
+    // Assert
+    assertEquals(List.of(testSession), switchResult.getStoppedSessions());
+    assertEquals(startedSession, switchResult.getStartedSession());
+    ArgumentCaptor<LocalDateTime> stopTimeCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+    ArgumentCaptor<LocalDateTime> startTimeCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+    verify(taskSessionRepository)
+        .stopOtherSessionsOfTaskOwner(eq(targetTaskId), stopTimeCaptor.capture());
+    verify(taskSessionRepository).startSession(eq(targetTaskId), startTimeCaptor.capture());
+    assertEquals(stopTimeCaptor.getValue(), startTimeCaptor.getValue());
+    verifyNoMoreInteractions(taskSessionRepository);
+    assertRepositoryStatementsAtMost(2);
+    verify(cacheEvictor).evictTasks(List.of(targetTaskId, testTask.getId()));
+  }
+
+  @Test
+  @DisplayName("switchTaskSession_shouldThrowException_whenTaskNotFound")
+  void switchTaskSession_shouldThrowException_whenTaskNotFound() {
+    // Arrange
+    UUID nonExistentTaskId = UUID.randomUUID();
+    when(taskSessionRepository.stopOtherSessionsOfTaskOwner(eq(nonExistentTaskId),
+        any(LocalDateTime.class))).thenReturn(List.of());
+    when(taskSessionRepository.startSession(eq(nonExistentTaskId), any(LocalDateTime.class)))
+        .thenReturn(Optional.empty());
+
+    // Act & Assert
+    assertThrows(
+        ResourceNotFoundException.class,
+        () -> taskSessionService.switchTaskSession(nonExistentTaskId)
+    );
+  }
+
+  @Test
+  @DisplayName("switchTaskSession_shouldThrowException_whenTargetIsAlreadyRunning")
+  void switchTaskSession_shouldThrowException_whenTargetIsAlreadyRunning() {
+    // Arrange
+    when(taskSessionRepository.stopOtherSessionsOfTaskOwner(eq(testTask.getId()),
+        any(LocalDateTime.class))).thenReturn(List.of());
+    when(taskSessionRepository.startSession(eq(testTask.getId()), any(LocalDateTime.class)))
+        .thenThrow(new DataIntegrityViolationException("Unique constraint violation"));
+
+    // Act & Assert
+    assertThrows(
+        TaskSessionConflictException.class,
+        () -> taskSessionService.switchTaskSession(testTask.getId())
+    );
+  }
+
+  @Test
+  @DisplayName("startTaskSessions_shouldReportOutcomePerTask_whenBatchIsMixed")
+  void startTaskSessions_shouldReportOutcomePerTask_whenBatchIsMixed() throws Exception {
+    // Arrange
+    Task runningTask = new Task(testUser, "Running Task", null);
+    setId(runningTask, UUID.randomUUID());
+    testSession.setTask(runningTask);
+    UUID nonExistentTaskId = UUID.randomUUID();
+    List<UUID> taskIdList = List.of(testTask.getId(), runningTask.getId(), nonExistentTaskId);
+
+    when(taskRepository.findAllById(anyCollection())).thenReturn(List.of(testTask, runningTask));
+    when(taskSessionRepository.findRunningSessionsByTaskIds(anyCollection()))
+        .thenReturn(List.of(testSession));
+
+    // Act
+    List<TaskSessionBatchResult> resultList = taskSessionService.startTaskSessions(taskIdList);
+
+    // Assert
+    assertEquals(3, resultList.size());
+    assertEquals(TaskSessionBatchResult.Outcome.SUCCESS, resultList.get(0).getOutcome());
+    assertEquals(testTask, resultList.get(0).getTaskSession().getTask());
+    assertEquals(TaskSessionBatchResult.Outcome.CONFLICT, resultList.get(1).getOutcome());
+    assertEquals(TaskSessionBatchResult.Outcome.NOT_FOUND, resultList.get(2).getOutcome());
+    assertEquals(TaskStatus.RUNNING, testTask.getStatus());
+    assertEquals(TaskStatus.PENDING, runningTask.getStatus());
+    verify(taskSessionRepository).saveAll(anyCollection());
+    verify(taskEventWriter).appendAll(anyCollection());
+    verify(taskSessionRepository).flush();
+    verify(sessionMetrics).recordConflict(TaskSessionMetrics.BATCH_START);
+    assertRepositoryStatementsAtMost(5);
+  }
+
+  @Test
+  @DisplayName("startTaskSessions_shouldThrowException_whenConcurrentStartViolatesConstraint")
+  void startTaskSessions_shouldThrowException_whenConcurrentStartViolatesConstraint() {
+    // Arrange
+    when(taskRepository.findAllById(anyCollection())).thenReturn(List.of(testTask));
+    when(taskSessionRepository.findRunningSessionsByTaskIds(anyCollection()))
+        .thenReturn(List.of());
+    doThrow(new DataIntegrityViolationException("Unique constraint violation"))
+        .when(taskSessionRepository).flush();
+
+    // Act & Assert
+    assertThrows(
+        TaskSessionConflictException.class,
+        () -> taskSessionService.startTaskSessions(List.of(testTask.getId()))
+    );
+    verify(sessionMetrics).recordConstraintRace(TaskSessionMetrics.BATCH_START);
+  }
+
+  @Test
+  @DisplayName("startTaskSessions_shouldNotIssueStatementsPerTask_whenBatchGrows")
+  void startTaskSessions_shouldNotIssueStatementsPerTask_whenBatchGrows() throws Exception {
+    // Arrange
+    List<Task> taskList = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      Task task = new Task(testUser, "Task " + i, null);
+      setId(task, UUID.randomUUID());
+      taskList.add(task);
+    }
+    List<UUID> taskIdList = taskList.stream().map(Task::getId).toList();
+    when(taskRepository.findAllById(anyCollection())).thenReturn(taskList);
+    when(taskSessionRepository.findRunningSessionsByTaskIds(anyCollection()))
+        .thenReturn(List.of());
+
+    // Act
+    List<TaskSessionBatchResult> resultList = taskSessionService.startTaskSessions(taskIdList);
+
+    // Assert
+    assertEquals(50, resultList.size());
+    assertRepositoryStatementsAtMost(5);
+  }
+
+  @Test
+  @DisplayName("stopTaskSessions_shouldEndRunningSessions_andReportConflictForIdleTasks")
+  void stopTaskSessions_shouldEndRunningSessions_andReportConflictForIdleTasks()
+      throws Exception {
+    // Arrange
+    Task idleTask = new Task(testUser, "Idle Task", null);
+    setId(idleTask, UUID.randomUUID());
+    UUID nonExistentTaskId = UUID.randomUUID();
+    List<UUID> taskIdList =
+        List.of(testTask.getId(), idleTask.getId(), nonExistentTaskId, testTask.getId());
+    testSession.setEndTime(LocalDateTime.now());
+
+    when(taskSessionRepository.stopSessions(anyCollection(), any(LocalDateTime.class)))
+        .thenReturn(List.of(testSession));
+    when(taskRepository.findAllById(Set.of(idleTask.getId(), nonExistentTaskId)))
+        .thenReturn(List.of(idleTask));
+
+    // Act
+    List<TaskSessionBatchResult> resultList = taskSessionService.stopTaskSessions(taskIdList);
+
+    // Assert
+    assertEquals(3, resultList.size());
+    assertEquals(TaskSessionBatchResult.Outcome.SUCCESS, resultList.get(0).getOutcome());
+    assertFalse(resultList.get(0).getTaskSession().isRunning());
+    assertEquals(TaskSessionBatchResult.Outcome.CONFLICT, resultList.get(1).getOutcome());
+    assertEquals(TaskSessionBatchResult.Outcome.NOT_FOUND, resultList.get(2).getOutcome());
+    verify(taskSessionRepository).stopSessions(
+        eq(Set.of(testTask.getId(), idleTask.getId(), nonExistentTaskId)),
+        any(LocalDateTime.class));
+    verify(sessionMetrics).recordConflict(TaskSessionMetrics.BATCH_STOP);
+    verify(cacheEvictor).evictTasks(Set.of(testTask.getId()));
+    verify(eventPublisher).publishEvent(any(TaskStateChangedEvent.class));
+    verifyNoInteractions(taskEventWriter);
+    assertRepositoryStatementsAtMost(2);
+  }
+
+  @Test
+  @DisplayName("stopTaskSessions_shouldNotLookUpTasks_whenEverySessionIsStopped")
+  void stopTaskSessions_shouldNotLookUpTasks_whenEverySessionIsStopped() {
+    // Arrange
+    testSession.setEndTime(LocalDateTime.now());
+    when(taskSessionRepository.stopSessions(anyCollection(), any(LocalDateTime.class)))
+        .thenReturn(List.of(testSession));
+
+    // Act
+    List<TaskSessionBatchResult> resultList =
+        taskSessionService.stopTaskSessions(List.of(testTask.getId()));
+
+    // Assert
+    assertEquals(TaskSessionBatchResult.Outcome.SUCCESS, resultList.get(0).getOutcome());
+    verifyNoInteractions(taskRepository);
+    assertRepositoryStatementsAtMost(1);
   }
 
   @Test
@@ -262,6 +477,73 @@ class TaskSessionServiceTest {
     );
   }
 
+  @Test
+  @DisplayName("getRunningSessionsForUser_shouldReturnSessions_withSingleQuery")
+  void getRunningSessionsForUser_shouldReturnSessions_withSingleQuery() {
+    // Arrange
+    TaskSessionSummary runningSession = mock(TaskSessionSummary.class);
+    when(taskSessionRepository.findRunningSessionsByUserId(testUser.getId()))
+        .thenReturn(List.of(runningSession));
+
+    // Act
+    List<TaskSessionSummary> runningSessionList =
+        taskSessionService.getRunningSessionsForUser(testUser.getId());
+
+    // Assert
+    assertEquals(List.of(runningSession), runningSessionList);
+    verify(taskSessionRepository).findRunningSessionsByUserId(testUser.getId());
+    verifyNoMoreInteractions(taskSessionRepository);
+    verifyNoInteractions(taskRepository);
+  }
+
+  @Test
+  @DisplayName("getSessionsForTask_shouldReadFirstPage_whenNoCursorGiven")
+  void getSessionsForTask_shouldReadFirstPage_whenNoCursorGiven() {
+    // Arrange
+    TaskSessionSummary sessionSummary = mock(TaskSessionSummary.class);
+    when(taskRepository.existsById(testTask.getId())).thenReturn(true);
+    when(taskSessionRepository.findFirstSessionPage(testTask.getId(), false, 51))
+        .thenReturn(List.of(sessionSummary));
+
+    // Act
+    List<TaskSessionSummary> sessionList =
+        taskSessionService.getSessionsForTask(testTask.getId(), null, 51);
+
+    // Assert
+    assertEquals(List.of(sessionSummary), sessionList);
+  }
+
+  @Test
+  @DisplayName("getCompletedSessionsForTask_shouldSeekPastCursor_whenCursorGiven")
+  void getCompletedSessionsForTask_shouldSeekPastCursor_whenCursorGiven() {
+    // Arrange
+    SessionCursor cursor = new SessionCursor(testSession.getStartTime(), testSession.getId());
+    when(taskRepository.existsById(testTask.getId())).thenReturn(true);
+    when(taskSessionRepository.findSessionPageAfter(testTask.getId(), true,
+        testSession.getStartTime(), testSession.getId(), 11)).thenReturn(List.of());
+
+    // Act
+    List<TaskSessionSummary> sessionList =
+        taskSessionService.getCompletedSessionsForTask(testTask.getId(), cursor, 11);
+
+    // Assert
+    assertTrue(sessionList.isEmpty());
+  }
+
+  @Test
+  @DisplayName("getSessionsForTask_shouldThrowException_whenTaskNotFound")
+  void getSessionsForTask_shouldThrowException_whenTaskNotFound() {
+    // Arrange
+    UUID nonExistentTaskId = UUID.randomUUID();
+    when(taskRepository.existsById(nonExistentTaskId)).thenReturn(false);
+
+    // Act & Assert
+    assertThrows(
+        ResourceNotFoundException.class,
+        () -> taskSessionService.getSessionsForTask(nonExistentTaskId, null, 51)
+    );
+  }
+
   @Test
   @DisplayName("findSessionById_shouldReturnSession_whenSessionExists")
   void findSessionById_shouldReturnSession_whenSessionExists() {
@@ -0,0 +1,69 @@
+package com.zestark.timewatch.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.zestark.timewatch.repository.TaskSessionRepository;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for UsageRollupService.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UsageRollupService単体テスト")
+class UsageRollupServiceTest {
+
+  @Mock
+  private TaskSessionRepository taskSessionRepository;
+
+  private UsageRollupService usageRollupService;
+
+  /**
+   * Setup the service before each test.
+   */
+  @BeforeEach
+  void setUp() {
+    usageRollupService = new UsageRollupService(taskSessionRepository, 7);
+  }
+
+  @Test
+  @DisplayName("rebuildDailyUsage_shouldLockDeleteAndInsert_inThatOrder")
+  void rebuildDailyUsage_shouldLockDeleteAndInsert_inThatOrder() {
+    // Arrange
+    LocalDate from = LocalDate.of(2026, 3, 1);
+    LocalDate to = LocalDate.of(2026, 3, 31);
+    when(taskSessionRepository.insertDailyUsageFromSessions(from, to)).thenReturn(12);
+
+    // Act
+    int rowCount = usageRollupService.rebuildDailyUsage(from, to);
+
+    // Assert
+    assertEquals(12, rowCount);
+    InOrder inOrder = inOrder(taskSessionRepository);
+    inOrder.verify(taskSessionRepository).lockDailyUsage();
+    inOrder.verify(taskSessionRepository).deleteDailyUsage(from, to);
+    inOrder.verify(taskSessionRepository).insertDailyUsageFromSessions(from, to);
+  }
+
+  @Test
+  @DisplayName("rebuildDailyUsage_shouldThrowException_whenFromIsAfterTo")
+  void rebuildDailyUsage_shouldThrowException_whenFromIsAfterTo() {
+    // Act & Assert
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> usageRollupService.rebuildDailyUsage(
+            LocalDate.of(2026, 3, 2), LocalDate.of(2026, 3, 1))
+    );
+    verifyNoInteractions(taskSessionRepository);
+  }
+}
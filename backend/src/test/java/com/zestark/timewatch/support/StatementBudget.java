@@ -0,0 +1,70 @@
+package com.zestark.timewatch.support;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.mockito.Mockito;
+import org.mockito.invocation.Invocation;
+
+/**
+ * Asserts upper bounds on the database round trips of service methods in unit tests.
+ *
+ * <p>Every call on a mocked repository is counted as one statement, because each repository
+ * method maps to one query, one native CTE or one JDBC batch. A mocked task event writer
+ * can be passed as well, since the events of a transaction are written with one INSERT.
+ * Calls that never reach the database, such as {@code getReferenceById}, are not counted.
+ * A budget that is exceeded usually means a query was moved into a loop, so the assertion
+ * lists every counted call.
+ *
+ * <p>Mocks cannot see the statements Hibernate issues on its own, such as the UPDATE
+ * batches of flushed entity changes. The budgets of the timer endpoints are therefore also
+ * checked against a real database by {@code StatementBudgetIntegrationTest}.
+ */
+public final class StatementBudget {
+
+  private static final Set<String> NON_QUERYING_METHODS = Set.of("getReferenceById");
+
+  private StatementBudget() {
+  }
+
+  /**
+   * Asserts that the repository mocks were called at most a given number of times.
+   *
+   * @param maxStatements the largest number of statements allowed
+   * @param repositories the repository mocks used by the code under test
+   */
+  public static void assertStatementsAtMost(int maxStatements, Object... repositories) {
+    int statementCount = countStatements(repositories);
+    if (statementCount > maxStatements) {
+      fail("Expected at most " + maxStatements + " statements but " + statementCount
+          + " were issued:\n" + describeStatements(repositories));
+    }
+  }
+
+  /**
+   * Counts the calls on repository mocks that reach the database.
+   *
+   * @param repositories the repository mocks used by the code under test
+   * @return the number of counted calls
+   */
+  public static int countStatements(Object... repositories) {
+    return (int) Arrays.stream(repositories)
+        .flatMap(repository -> Mockito.mockingDetails(repository).getInvocations().stream())
+        .filter(StatementBudget::isStatement)
+        .count();
+  }
+
+  private static String describeStatements(Object... repositories) {
+    return Arrays.stream(repositories)
+        .flatMap(repository -> Mockito.mockingDetails(repository).getInvocations().stream())
+        .filter(StatementBudget::isStatement)
+        .map(invocation -> "  " + invocation)
+        .collect(Collectors.joining("\n"));
+  }
+
+  private static boolean isStatement(Invocation invocation) {
+    return !NON_QUERYING_METHODS.contains(invocation.getMethod().getName());
+  }
+}
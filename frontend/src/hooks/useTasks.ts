@@ -21,8 +21,8 @@ export function useTasks(userId: string) {
     setTaskListError(null);
 
     try {
-      const fetchedTaskList = await taskApi.getTasksByUser(userId);
-      setTaskList(fetchedTaskList);
+      const fetchedTaskPage = await taskApi.getTasksByUser(userId);
+      setTaskList(fetchedTaskPage.items);
     } catch (error) {
       const errorMessage = error instanceof Error ? error.message : 'Failed to fetch tasks';
       setTaskListError(errorMessage);
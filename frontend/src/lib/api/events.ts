@@ -0,0 +1,39 @@
+import { apiClient } from './client';
+import type { TaskStateEvent, TaskStateEventType } from '@/types';
+
+const TASK_STATE_EVENT_TYPES: TaskStateEventType[] = ['START', 'STOP', 'COMPLETE', 'CANCEL'];
+
+/**
+ * Subscribes to the task state changes of a user over Server-Sent Events.
+ *
+ * The browser reconnects automatically when the stream is closed, for example after
+ * the client fell behind; onReconnect is called then so that the caller can reload
+ * the current state.
+ *
+ * @param userId the user ID
+ * @param onEvent called for every task state change
+ * @param onReconnect called when the stream was reopened after a disconnect
+ * @returns a function that closes the stream
+ */
+export function subscribeToTaskEvents(
+  userId: string,
+  onEvent: (event: TaskStateEvent) => void,
+  onReconnect?: () => void
+): () => void {
+  const eventSource = new EventSource(`${apiClient.defaults.baseURL}/users/${userId}/events`);
+  let opened = false;
+
+  eventSource.onopen = () => {
+    if (opened) {
+      onReconnect?.();
+    }
+    opened = true;
+  };
+  TASK_STATE_EVENT_TYPES.forEach((eventType) => {
+    eventSource.addEventListener(eventType, (message) => {
+      onEvent(JSON.parse((message as MessageEvent<string>).data) as TaskStateEvent);
+    });
+  });
+
+  return () => eventSource.close();
+}
@@ -4,3 +4,5 @@
 export * from './client';
 export * from './tasks';
 export * from './sessions';
+export * from './reports';
+export * from './events';
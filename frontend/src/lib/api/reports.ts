@@ -0,0 +1,30 @@
+import { apiRequest } from './client';
+import type { ReportGranularity, UsageReport } from '@/types';
+
+/**
+ * API client for time-usage reports.
+ */
+export const reportApi = {
+  /**
+   * Gets the time a user spent per task and period over a date range.
+   *
+   * @param userId the user ID
+   * @param from the first day of the range (YYYY-MM-DD, inclusive)
+   * @param to the last day of the range (YYYY-MM-DD, inclusive)
+   * @param granularity the period length to group by
+   * @returns the usage report
+   */
+  async getUsageReport(
+    userId: string,
+    from: string,
+    to: string,
+    granularity: ReportGranularity = 'DAY'
+  ): Promise<UsageReport> {
+    return apiRequest<UsageReport>(
+      'GET',
+      `/users/${userId}/reports/usage`,
+      undefined,
+      { from, to, granularity }
+    );
+  },
+};
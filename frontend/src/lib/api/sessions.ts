@@ -1,5 +1,5 @@
-import { apiRequest } from './client';
-import type { TaskSession } from '@/types';
+import { apiClient, apiRequest } from './client';
+import type { TaskSession, TaskSessionPage } from '@/types';
 
 /**
  * API client for task session-related operations.
@@ -44,23 +44,61 @@ export const sessionApi = {
   },
 
   /**
-   * Gets all sessions for a task.
+   * Gets all running sessions of a user across all of their tasks.
+   *
+   * @param userId the user ID
+   * @returns a list of running sessions
+   */
+  async getRunningSessionsByUser(userId: string): Promise<TaskSession[]> {
+    return apiRequest<TaskSession[]>('GET', `/users/${userId}/running-sessions`);
+  },
+
+  /**
+   * Gets one page of sessions for a task, newest first.
    *
    * @param taskId the task ID
-   * @returns a list of sessions
+   * @param cursor the cursor from the previous page, omitted for the first page
+   * @returns a page of sessions
    */
-  async getAllSessions(taskId: string): Promise<TaskSession[]> {
-    return apiRequest<TaskSession[]>('GET', `/tasks/${taskId}/sessions`);
+  async getAllSessions(taskId: string, cursor?: string): Promise<TaskSessionPage> {
+    return apiRequest<TaskSessionPage>(
+      'GET',
+      `/tasks/${taskId}/sessions`,
+      undefined,
+      cursor ? { cursor } : undefined
+    );
   },
 
   /**
-   * Gets all completed sessions for a task.
+   * Gets one page of completed sessions for a task, newest first.
    *
    * @param taskId the task ID
-   * @returns a list of completed sessions
+   * @param cursor the cursor from the previous page, omitted for the first page
+   * @returns a page of completed sessions
+   */
+  async getCompletedSessions(taskId: string, cursor?: string): Promise<TaskSessionPage> {
+    return apiRequest<TaskSessionPage>(
+      'GET',
+      `/tasks/${taskId}/sessions/completed`,
+      undefined,
+      cursor ? { cursor } : undefined
+    );
+  },
+
+  /**
+   * Builds the download URL of a user's session CSV export.
+   *
+   * The export is streamed by the server, so it is meant to be opened as a link rather
+   * than fetched into memory.
+   *
+   * @param userId the user ID
+   * @param from the first day of the range (YYYY-MM-DD, inclusive)
+   * @param to the last day of the range (YYYY-MM-DD, inclusive)
+   * @returns the export URL
    */
-  async getCompletedSessions(taskId: string): Promise<TaskSession[]> {
-    return apiRequest<TaskSession[]>('GET', `/tasks/${taskId}/sessions/completed`);
+  getSessionExportUrl(userId: string, from: string, to: string): string {
+    const query = new URLSearchParams({ from, to });
+    return `${apiClient.defaults.baseURL}/users/${userId}/sessions/export.csv?${query}`;
   },
 
   /**
@@ -1,5 +1,5 @@
 import { apiRequest } from './client';
-import type { Task, CreateTaskRequest, UpdateTaskRequest, TaskStatus } from '@/types';
+import type { Task, TaskPage, CreateTaskRequest, UpdateTaskRequest, TaskStatus } from '@/types';
 
 /**
  * API client for task-related operations.
@@ -17,13 +17,19 @@ export const taskApi = {
   },
 
   /**
-   * Gets all tasks for a user.
+   * Gets one page of tasks for a user, most recently updated first.
    *
    * @param userId the user ID
-   * @returns a list of tasks
+   * @param page the zero-based page number
+   * @param status optional status filter
+   * @returns a page of tasks
    */
-  async getTasksByUser(userId: string): Promise<Task[]> {
-    return apiRequest<Task[]>('GET', '/tasks', undefined, { userId });
+  async getTasksByUser(userId: string, page = 0, status?: TaskStatus): Promise<TaskPage> {
+    const params: Record<string, string | number> = { userId, page };
+    if (status) {
+      params.status = status;
+    }
+    return apiRequest<TaskPage>('GET', '/tasks', undefined, params);
   },
 
   /**
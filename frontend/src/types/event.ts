@@ -0,0 +1,17 @@
+import type { TaskStatus } from './task';
+
+/**
+ * Kind of task state change pushed by the server.
+ */
+export type TaskStateEventType = 'START' | 'STOP' | 'COMPLETE' | 'CANCEL';
+
+/**
+ * Task state change received from the user's event stream.
+ */
+export interface TaskStateEvent {
+  taskId: string;
+  eventType: TaskStateEventType;
+  taskStatus: TaskStatus;
+  sessionId: string | null;
+  occurredAt: string;
+}
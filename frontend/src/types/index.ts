@@ -4,3 +4,5 @@
 export * from './task';
 export * from './session';
 export * from './api';
+export * from './report';
+export * from './event';
@@ -0,0 +1,25 @@
+/**
+ * Period length that a usage report groups time by.
+ */
+export type ReportGranularity = 'DAY' | 'WEEK' | 'MONTH';
+
+/**
+ * Time spent on a single task within a single report period.
+ */
+export interface UsageReportEntry {
+  taskId: string;
+  taskName: string;
+  periodStart: string;
+  totalSeconds: number;
+}
+
+/**
+ * Time-usage report of a user over a date range.
+ */
+export interface UsageReport {
+  userId: string;
+  from: string;
+  to: string;
+  granularity: ReportGranularity;
+  entries: UsageReportEntry[];
+}
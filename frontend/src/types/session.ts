@@ -11,6 +11,14 @@ export interface TaskSession {
   createdAt: string;
 }
 
+/**
+ * One page of a task's session history.
+ */
+export interface TaskSessionPage {
+  items: TaskSession[];
+  nextCursor: string | null;
+}
+
 /**
  * Timer state for local management.
  */
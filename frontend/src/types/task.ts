@@ -21,6 +21,17 @@ export interface Task {
   updatedAt: string;
 }
 
+/**
+ * One page of a user's tasks.
+ */
+export interface TaskPage {
+  items: Task[];
+  page: number;
+  size: number;
+  totalElements: number;
+  totalPages: number;
+}
+
 /**
  * Request type for creating a new task.
  */